@@ -0,0 +1,153 @@
+package nl.streats1.rubiusaddons.block.entity;
+
+import nl.streats1.rubiusaddons.integration.KineticBinding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server tick cost of a population of healing machines, per game tick.
+ *
+ * Each invocation advances the game time by one tick and wakes every machine whose
+ * scheduled wake-up is due, like the level's block tick scheduler would. The machines run the
+ * block entity's own {@link HealingMachineCore} against a {@link StubHealingMachineHost}.
+ *
+ * Every scenario stays in its state for the whole iteration, however many ops run:
+ * - IDLE: machines dormant after their first (chunk load) wake-up, so only the due-check loop is timed
+ * - POWERED: steady state, each machine re-samples its shafts every {@link #REPOLL_INTERVAL} ticks
+ * - HEALING: a heal is always in progress; a machine that completes one starts the next on the same
+ *   wake-up, so the window covers re-polls, heal completions and heal starts
+ * - RECHARGING: always recharging at 0 SU, with deadlines spread over the recharge time; a machine
+ *   whose recharge completes starts a new one on the same wake-up
+ *
+ * Run with {@code ./gradlew jmh}; the GC profiler reports the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HealingMachineTickBenchmark {
+
+    public enum Scenario {
+        /** Not healing, recharged, nothing attached: dormant */
+        IDLE,
+        /** Three spinning shafts attached, re-polled on the safety interval */
+        POWERED,
+        /** Heal in progress, restarted whenever it completes */
+        HEALING,
+        /** Recharging at 0 SU, restarted whenever it completes */
+        RECHARGING
+    }
+
+    private static final int REPOLL_INTERVAL = 20;
+    private static final int BASE_RECHARGE_SECONDS = 300;
+    private static final int RECHARGE_TICKS = BASE_RECHARGE_SECONDS * 20;
+
+    @Param({"IDLE", "POWERED", "HEALING", "RECHARGING"})
+    public Scenario scenario;
+
+    @Param({"1", "10000"})
+    public int machines;
+
+    private KineticBinding kinetics;
+    private HealingMachineCore[] population;
+    private StubHealingMachineHost[] hosts;
+    private long gameTime;
+
+    @Setup(Level.Trial)
+    public void bind() {
+        kinetics = KineticBinding.resolve(StubKineticBlockEntity.class);
+        if (!kinetics.isAvailable()) {
+            throw new IllegalStateException("Could not bind the kinetic stand-in");
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void populate() {
+        // Past the longest stagger below, so every start time stays positive (0 means "not recharging")
+        gameTime = 10_000L;
+        population = new HealingMachineCore[machines];
+        hosts = new StubHealingMachineHost[machines];
+        for (int i = 0; i < machines; i++) {
+            StubHealingMachineHost host = switch (scenario) {
+                case IDLE, RECHARGING -> host(null, null, null);
+                case POWERED -> host(
+                    new StubKineticBlockEntity(64.0f),
+                    new StubKineticBlockEntity(-32.0f),
+                    new StubKineticBlockEntity(16.0f)
+                );
+                case HEALING -> host(new StubKineticBlockEntity(12.0f), null, null);
+            };
+            host.gameTime = gameTime;
+            HealingMachineCore machine = new HealingMachineCore(new KineticInputs(), host);
+            switch (scenario) {
+                // Staggered so completions are spread over the animation / recharge time
+                case HEALING -> machine.startHealing(gameTime - i % HealingMachineTiming.HEALING_ANIMATION_TICKS);
+                case RECHARGING -> machine.load(0.0f, false, 0, gameTime - i % RECHARGE_TICKS);
+                default -> {
+                }
+            }
+            // First wake-up samples the inputs (chunk load), spread over a second like real placement
+            host.wakeTime = gameTime + (i % 20);
+            population[i] = machine;
+            hosts[i] = host;
+        }
+    }
+
+    private StubHealingMachineHost host(Object bottom, Object left, Object right) {
+        return new StubHealingMachineHost(kinetics, REPOLL_INTERVAL, BASE_RECHARGE_SECONDS, bottom, left, right);
+    }
+
+    @Benchmark
+    public int serverTick() {
+        long now = ++gameTime;
+        int woken = 0;
+        for (int i = 0; i < population.length; i++) {
+            StubHealingMachineHost host = hosts[i];
+            if (host.wakeTime <= now) {
+                // The pending tick has fired
+                host.gameTime = now;
+                host.wakeTime = HealingMachineTiming.NO_WAKE;
+                population[i].wake(now);
+                rearm(population[i], host, now);
+                woken++;
+            }
+        }
+        return woken;
+    }
+
+    /**
+     * Starts the scenario's heal or recharge again once it has completed, so the machine never
+     * falls back to the idle state during an iteration.
+     */
+    private void rearm(HealingMachineCore machine, StubHealingMachineHost host, long now) {
+        switch (scenario) {
+            case HEALING -> {
+                if (!machine.isHealing) {
+                    machine.startHealing(now);
+                }
+            }
+            case RECHARGING -> {
+                if (machine.rechargeStartTime == 0) {
+                    machine.load(0.0f, false, 0, now);
+                    host.requestWake(machine.rechargeReadyAtGameTime - now);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+}
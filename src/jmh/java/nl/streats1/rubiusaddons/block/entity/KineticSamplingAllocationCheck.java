@@ -0,0 +1,97 @@
+package nl.streats1.rubiusaddons.block.entity;
+
+import com.sun.management.ThreadMXBean;
+import nl.streats1.rubiusaddons.integration.KineticBinding;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Fails the build (see the kineticAllocationCheck task) if kinetic sampling allocates.
+ *
+ * Counts the bytes this thread allocates over many calls, after a warm-up so class loading and
+ * JIT compilation are out of the way. The 0-byte assertion covers {@link KineticInputs#sampleRPM}
+ * and the core's re-sample step ({@link HealingMachineCore#updateSU}) only. The whole wake-up of a
+ * powered machine is measured too, but only reported: it runs much more than sampling.
+ */
+public final class KineticSamplingAllocationCheck {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_CALLS = 100_000;
+
+    private KineticSamplingAllocationCheck() {
+    }
+
+    public static void main(String[] args) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("This JVM can't count allocated bytes per thread");
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        KineticBinding kinetics = KineticBinding.resolve(StubKineticBlockEntity.class);
+        if (!kinetics.isAvailable()) {
+            throw new IllegalStateException("Could not bind the kinetic stand-in");
+        }
+
+        KineticInputs inputs = new KineticInputs();
+        inputs.resolve(new StubKineticBlockEntity(48.0f), new StubKineticBlockEntity(-24.0f), new StubKineticBlockEntity(8.0f));
+
+        // Re-poll interval 1: every wake-up samples the inputs
+        StubHealingMachineHost host = new StubHealingMachineHost(kinetics, 1, 300,
+            new StubKineticBlockEntity(48.0f), new StubKineticBlockEntity(-24.0f), new StubKineticBlockEntity(8.0f));
+        HealingMachineCore machine = new HealingMachineCore(new KineticInputs(), host);
+
+        long sampleBytes = measure(threads, () -> {
+            float rpm = 0.0f;
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                rpm += inputs.sampleRPM(kinetics);
+            }
+            return rpm;
+        });
+        long resampleBytes = measure(threads, () -> {
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                machine.updateSU();
+            }
+            return machine.currentRPM;
+        });
+        long wakeBytes = measure(threads, () -> {
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                host.gameTime++;
+                machine.wake(host.gameTime);
+            }
+            return machine.currentRPM;
+        });
+
+        System.out.println("KineticInputs.sampleRPM: " + sampleBytes + " bytes over " + MEASURED_CALLS + " calls");
+        System.out.println("HealingMachineCore.updateSU: " + resampleBytes + " bytes over " + MEASURED_CALLS + " calls");
+        System.out.println("HealingMachineCore.wake (not asserted): " + wakeBytes + " bytes over " + MEASURED_CALLS + " calls");
+        if (sampleBytes != 0 || resampleBytes != 0) {
+            throw new AssertionError("Kinetic sampling allocated: sampleRPM " + sampleBytes + " bytes, updateSU " + resampleBytes + " bytes");
+        }
+    }
+
+    /**
+     * Runs the calls a few times to warm up, then once more while counting this thread's allocated bytes.
+     */
+    private static long measure(ThreadMXBean threads, Calls calls) {
+        float sink = 0.0f;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += calls.run();
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        sink += calls.run();
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Keep the result alive so the calls can't be optimised away
+        if (sink == Float.MIN_VALUE) {
+            System.out.println(sink);
+        }
+        return allocated;
+    }
+
+    @FunctionalInterface
+    private interface Calls {
+        float run();
+    }
+}
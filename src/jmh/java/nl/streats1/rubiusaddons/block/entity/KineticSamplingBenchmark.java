@@ -0,0 +1,60 @@
+package nl.streats1.rubiusaddons.block.entity;
+
+import nl.streats1.rubiusaddons.integration.KineticBinding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the pieces the healing machine runs on every wake-up:
+ * sampling the cached kinetic sources and the recharge/power-state math.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KineticSamplingBenchmark {
+
+    @Param({"0", "1", "3"})
+    public int attachedSides;
+
+    private KineticBinding kinetics;
+    private KineticInputs inputs;
+    private float su;
+
+    @Setup
+    public void setUp() {
+        kinetics = KineticBinding.resolve(StubKineticBlockEntity.class);
+        inputs = new KineticInputs();
+        inputs.resolve(
+            attachedSides > 0 ? new StubKineticBlockEntity(48.0f) : null,
+            attachedSides > 1 ? new StubKineticBlockEntity(-24.0f) : null,
+            attachedSides > 2 ? new StubKineticBlockEntity(8.0f) : null
+        );
+        su = 512.0f;
+    }
+
+    @Benchmark
+    public float sampleRPM() {
+        return inputs.sampleRPM(kinetics);
+    }
+
+    @Benchmark
+    public void rechargeAndPowerState(Blackhole blackhole) {
+        blackhole.consume(HealingMachineTiming.rechargeSeconds(su, 300));
+        blackhole.consume(HealingMachineTiming.powerState(su / KineticBinding.SU_PER_RPM));
+    }
+}
@@ -0,0 +1,115 @@
+package nl.streats1.rubiusaddons.block.entity;
+
+import net.minecraft.core.BlockPos;
+import nl.streats1.rubiusaddons.integration.KineticBinding;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Stand-in for the level side of a healing machine, so the benchmarks drive the real
+ * {@link HealingMachineCore}. Kinetic sources are fixed, block state writes only keep the
+ * power state, and the scheduled block tick is a wake-up game time.
+ */
+class StubHealingMachineHost implements HealingMachineCore.Host {
+
+    private final KineticBinding kinetics;
+    private final int repollInterval;
+    private final int baseRechargeSeconds;
+    @Nullable
+    private final Object bottom;
+    @Nullable
+    private final Object left;
+    @Nullable
+    private final Object right;
+
+    // Current game time, set before each wake-up
+    long gameTime = 0;
+    // Game time of the next wake-up; stands in for the level's scheduled block tick
+    long wakeTime = HealingMachineTiming.NO_WAKE;
+    int powerState = 0;
+    // Field groups marked for a client sync (never flushed)
+    int pendingSync = 0;
+
+    StubHealingMachineHost(KineticBinding kinetics, int repollInterval, int baseRechargeSeconds,
+                           @Nullable Object bottom, @Nullable Object left, @Nullable Object right) {
+        this.kinetics = kinetics;
+        this.repollInterval = repollInterval;
+        this.baseRechargeSeconds = baseRechargeSeconds;
+        this.bottom = bottom;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    public BlockPos pos() {
+        return BlockPos.ZERO;
+    }
+
+    @Override
+    public KineticBinding kinetics() {
+        return kinetics;
+    }
+
+    @Override
+    public void resolveKineticSources(KineticInputs inputs) {
+        inputs.resolve(bottom, left, right);
+    }
+
+    @Override
+    public boolean isSourceRemoved(Object source) {
+        return false;
+    }
+
+    @Override
+    public int kineticRepollInterval() {
+        return repollInterval;
+    }
+
+    @Override
+    public int powerStateDebounceTicks() {
+        return 0;
+    }
+
+    @Override
+    public int baseRechargeSeconds() {
+        return baseRechargeSeconds;
+    }
+
+    @Override
+    public boolean healingAvailable() {
+        return true;
+    }
+
+    @Override
+    public int shownPowerState() {
+        return powerState;
+    }
+
+    @Override
+    public void commitPowerState(int powerState) {
+        this.powerState = powerState;
+    }
+
+    @Override
+    public void reconcileBlockState(boolean healing) {
+    }
+
+    @Override
+    @Nullable
+    public String healParty() {
+        return null;
+    }
+
+    @Override
+    public void requestWake(long delay) {
+        wakeTime = Math.min(wakeTime, gameTime + Math.max(1L, delay));
+    }
+
+    @Override
+    public void markSync(int fields) {
+        pendingSync |= fields;
+    }
+
+    @Override
+    public void setChanged() {
+    }
+}
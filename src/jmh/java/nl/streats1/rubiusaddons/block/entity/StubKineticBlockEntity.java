@@ -0,0 +1,22 @@
+package nl.streats1.rubiusaddons.block.entity;
+
+/**
+ * Stand-in for Create's KineticBlockEntity: exposes the same public getSpeed() the
+ * {@link nl.streats1.rubiusaddons.integration.KineticBinding} links against.
+ */
+public class StubKineticBlockEntity {
+
+    private float speed;
+
+    public StubKineticBlockEntity(float speed) {
+        this.speed = speed;
+    }
+
+    public float getSpeed() {
+        return speed;
+    }
+
+    public void setSpeed(float speed) {
+        this.speed = speed;
+    }
+}
@@ -0,0 +1,32 @@
+package nl.streats1.rubiusaddons;
+
+import net.neoforged.neoforge.common.ModConfigSpec;
+
+// Per-player render settings. Registered as a CLIENT config, so a server's config never overrides them.
+public class ClientConfig {
+    private static final ModConfigSpec.Builder BUILDER = new ModConfigSpec.Builder();
+
+    // Level of detail for the pokeballs on a healing machine tray.
+    // Within the full detail distance balls use their item models, beyond it flat icons, and past the cutoff nothing.
+    public static final ModConfigSpec.IntValue TRAY_FULL_DETAIL_DISTANCE = BUILDER
+            .comment("Distance in blocks up to which healing machine tray pokeballs are drawn with full item models (capped at trayRenderDistance)")
+            .defineInRange("trayFullDetailDistance", 16, 0, 256);
+
+    public static final ModConfigSpec.IntValue TRAY_RENDER_DISTANCE = BUILDER
+            .comment("Distance in blocks beyond which healing machine tray pokeballs are not drawn at all (flat icons in between)")
+            .defineInRange("trayRenderDistance", 48, 0, 256);
+
+    static final ModConfigSpec SPEC = BUILDER.build();
+
+    /**
+     * Distance up to which the tray is drawn at full detail.
+     * Never more than {@link #trayRenderDistance()}, so an inverted pair in the file just means "no flat icon band".
+     */
+    public static int trayFullDetailDistance() {
+        return Math.min(TRAY_FULL_DETAIL_DISTANCE.getAsInt(), trayRenderDistance());
+    }
+
+    public static int trayRenderDistance() {
+        return TRAY_RENDER_DISTANCE.getAsInt();
+    }
+}
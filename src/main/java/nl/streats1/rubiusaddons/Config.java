@@ -28,6 +28,18 @@ public class Config {
             .comment("A list of items to log on common setup.")
             .defineListAllowEmpty("items", List.of("minecraft:iron_ingot"), () -> "", Config::validateItemName);
 
+    // How often an idle healing machine re-samples its Create inputs when no neighbour change marked it dirty.
+    // Create does not send neighbour updates when a network's speed changes, so this is the safety net for that case.
+    public static final ModConfigSpec.IntValue KINETIC_REPOLL_INTERVAL = BUILDER
+            .comment("Ticks between safety re-polls of a healing machine's Create kinetic inputs (neighbour changes and chunk loads always trigger an immediate re-sample)")
+            .defineInRange("kineticRepollInterval", 20, 1, 1200);
+
+    // Debounce for the healing machine's colour (POWER_STATE). Each commit is a block update that re-lights and
+    // re-sends the block, so a fluctuating network is limited to one colour change per window.
+    public static final ModConfigSpec.IntValue POWER_STATE_DEBOUNCE_TICKS = BUILDER
+            .comment("Minimum ticks between power state (colour) changes of a healing machine")
+            .defineInRange("powerStateDebounceTicks", 20, 0, 1200);
+
     static final ModConfigSpec SPEC = BUILDER.build();
 
     private static boolean validateItemName(final Object obj) {
@@ -5,6 +5,10 @@ import nl.streats1.rubiusaddons.block.ModBlocks;
 import nl.streats1.rubiusaddons.block.entity.ModBlockEntities;
 import nl.streats1.rubiusaddons.block.entity.CreatePoweredHealingMachineBlockEntity;
 import nl.streats1.rubiusaddons.creativetab.ModCreativeTabs;
+import nl.streats1.rubiusaddons.network.ModNetworking;
+import nl.streats1.rubiusaddons.integration.CobblemonIntegration;
+import nl.streats1.rubiusaddons.integration.CompatWarmup;
+import nl.streats1.rubiusaddons.integration.PartyHealCache;
 import org.slf4j.Logger;
 
 import com.mojang.logging.LogUtils;
@@ -29,6 +33,9 @@ import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.client.gui.ConfigurationScreen;
 import net.neoforged.neoforge.client.gui.IConfigScreenFactory;
 import nl.streats1.rubiusaddons.command.DamagePokemonCommand;
+import nl.streats1.rubiusaddons.command.RubiusCommand;
+import nl.streats1.rubiusaddons.diagnostics.HealingMachineMetrics;
+import nl.streats1.rubiusaddons.diagnostics.JfrRecorder;
 import org.jetbrains.annotations.NotNull;
 
 // The RubiusAddon here should match an entry in the META-INF/neoforge.mods.toml file
@@ -54,9 +61,11 @@ public class RubiusCobblemonAdditions {
         ModItems.register(modEventBus);
         ModBlockEntities.register(modEventBus);
         ModCreativeTabs.register(modEventBus);
+        ModNetworking.register(modEventBus);
 
         // Register our mod's ModConfigSpec so that FML can create and load the config file for us
         modContainer.registerConfig(ModConfig.Type.COMMON, Config.SPEC);
+        modContainer.registerConfig(ModConfig.Type.CLIENT, ClientConfig.SPEC);
         
         // Register client-side extension points (will only register on client side)
         try {
@@ -67,7 +76,8 @@ public class RubiusCobblemonAdditions {
     }
 
     private void commonSetup(FMLCommonSetupEvent event) {
-        // Log that blocks and items are registered
+        // Bind optional mod APIs once, so ticking code never has to look them up
+        event.enqueueWork(() -> CompatWarmup.run("common setup"));
     }
 
     // Creative tab items are now handled in ModCreativeTabs.displayItems()
@@ -76,13 +86,39 @@ public class RubiusCobblemonAdditions {
     // You can use SubscribeEvent and let the Event Bus discover methods to call
     @SubscribeEvent
     public void onServerStarting(ServerStartingEvent event) {
-
+        // No-op unless common setup's warm-up did not run
+        CompatWarmup.run("server starting");
+    }
+    
+    // Write out a JFR recording that is still running, so it isn't lost with the server
+    @SubscribeEvent
+    public void onServerStopping(net.neoforged.neoforge.event.server.ServerStoppingEvent event) {
+        if (JfrRecorder.isRecording()) {
+            JfrRecorder.stop();
+        }
     }
     
     // Register custom commands
     @SubscribeEvent
     public void onRegisterCommands(RegisterCommandsEvent event) {
         DamagePokemonCommand.register(event.getDispatcher());
+        RubiusCommand.register(event.getDispatcher());
+    }
+    
+    // Send the healing machine syncs queued during this tick, one payload per machine,
+    // and fold the metrics into their moving averages when an interval has passed
+    @SubscribeEvent
+    public void onServerTick(net.neoforged.neoforge.event.tick.ServerTickEvent.Post event) {
+        CreatePoweredHealingMachineBlockEntity.flushPendingSyncs();
+        HealingMachineMetrics.tickIfNecessary();
+    }
+    
+    // Drop the player's cached party state (and its Cobblemon subscription)
+    @SubscribeEvent
+    public void onPlayerLoggedOut(net.neoforged.neoforge.event.entity.player.PlayerEvent.PlayerLoggedOutEvent event) {
+        if (CobblemonIntegration.isAvailable()) {
+            PartyHealCache.evict(event.getEntity().getUUID());
+        }
     }
     
     // Handle right-click on Create-powered healing machine
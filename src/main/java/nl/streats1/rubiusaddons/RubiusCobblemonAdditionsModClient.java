@@ -2,6 +2,7 @@ package nl.streats1.rubiusaddons;
 
 import net.minecraft.client.color.block.BlockColor;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.minecraft.world.level.BlockAndTintGetter;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.api.distmarker.Dist;
@@ -9,13 +10,17 @@ import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
 import net.neoforged.neoforge.client.event.EntityRenderersEvent;
+import net.neoforged.neoforge.client.event.RegisterClientReloadListenersEvent;
 import net.neoforged.neoforge.client.event.RegisterColorHandlersEvent;
 import net.neoforged.neoforge.client.gui.ConfigurationScreen;
 import net.neoforged.neoforge.client.gui.IConfigScreenFactory;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
 import nl.streats1.rubiusaddons.block.ModBlocks;
 import nl.streats1.rubiusaddons.block.entity.ModBlockEntities;
 import nl.streats1.rubiusaddons.client.renderer.CreatePoweredHealingMachineRenderer;
+import nl.streats1.rubiusaddons.client.renderer.PokeballStackCache;
 
 // This class will not load on dedicated servers. Accessing client side code from here is safe.
 // Use EventBusSubscriber to automatically register all static methods in the class annotated with @SubscribeEvent
@@ -26,15 +31,7 @@ public class RubiusCobblemonAdditionsModClient {
     
     @SubscribeEvent
     static void onClientSetup(FMLClientSetupEvent event) {
-        // Note: Create's goggles system likely uses instanceof to check for IHaveGoggleInformation
-        // Since Create is optional, we can't implement the interface directly.
-        // Our block entity has the addToGoggleTooltip method, but Create might not detect it
-        // if they use instanceof checks instead of reflection.
-        // 
-        // If goggles don't work, we may need to:
-        // 1. Check Create's source code to see how they detect goggle information
-        // 2. Use Create's event system if they have one for registering goggle providers
-        // 3. Create a wrapper class that implements the interface (complex)
+        // Goggle information: with Create loaded the healing machine is a GoggleHealingMachineBlockEntity
     }
     
     /**
@@ -48,6 +45,32 @@ public class RubiusCobblemonAdditionsModClient {
         );
     }
     
+    /**
+     * Drop cached pokeball stacks when resources reload (models/items may have changed).
+     */
+    @SubscribeEvent
+    static void registerReloadListeners(RegisterClientReloadListenersEvent event) {
+        event.registerReloadListener((ResourceManagerReloadListener) resourceManager -> PokeballStackCache.clear());
+    }
+    
+    /**
+     * Drop cached pokeball stacks when the server syncs datapack tags/registries.
+     */
+    @SubscribeEvent
+    static void onTagsUpdated(TagsUpdatedEvent event) {
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.CLIENT_PACKET_RECEIVED) {
+            PokeballStackCache.clear();
+        }
+    }
+    
+    /**
+     * Drop cached pokeball stacks when leaving a world or server.
+     */
+    @SubscribeEvent
+    static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        PokeballStackCache.clear();
+    }
+    
     /**
      * Register block color handlers for power state visualization.
      * Only tints the indicator/lights area (tintindex: 1), like the normal Cobblemon healing machine.
@@ -2,6 +2,8 @@ package nl.streats1.rubiusaddons.block;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.context.BlockPlaceContext;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
@@ -9,8 +11,6 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.Rotation;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
@@ -90,22 +90,36 @@ public class CreatePoweredHealingMachineBlock extends Block implements EntityBlo
 
     @Override
     public @NotNull BlockEntity newBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state) {
-        return new CreatePoweredHealingMachineBlockEntity(pos, state);
+        // Created through the type so the Create-aware subclass is used when Create is loaded
+        return ModBlockEntities.CREATE_POWERED_HEALING_MACHINE.get().create(pos, state);
     }
 
+    // No getTicker override: the machine is not in the block entity tick list at all.
+    // The block entity schedules block ticks for the moments it has work to do (healing done,
+    // recharge done, kinetic re-sample) and sleeps otherwise. The client renderer reads state directly.
+    
+    /**
+     * Scheduled wake-up of the healing machine.
+     */
+    @Override
+    protected void tick(@NotNull BlockState state, @NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull RandomSource random) {
+        if (level.getBlockEntity(pos) instanceof CreatePoweredHealingMachineBlockEntity healingMachine) {
+            CreatePoweredHealingMachineBlockEntity.tick(level, pos, state, healingMachine);
+        }
+    }
+    
+    /**
+     * A neighbouring block changed (shaft placed/removed, gearbox rotated, ...).
+     * Wakes the block entity so it re-samples its Create kinetic inputs on the next tick.
+     */
     @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(@NotNull Level level, @NotNull BlockState state, @NotNull BlockEntityType<T> type) {
-        // Server-side ticker handles healing logic
-        // Client-side doesn't need a ticker - renderer will check block entity state directly
-        return level.isClientSide() ? null : createTickerHelper(type, ModBlockEntities.CREATE_POWERED_HEALING_MACHINE.get(), CreatePoweredHealingMachineBlockEntity::tick);
+    protected void neighborChanged(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos, @NotNull Block neighborBlock, @NotNull BlockPos neighborPos, boolean movedByPiston) {
+        super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
+        if (!level.isClientSide() && level.getBlockEntity(pos) instanceof CreatePoweredHealingMachineBlockEntity healingMachine) {
+            healingMachine.markKineticDirty();
+        }
     }
     
     // Handle player interaction using NeoForge event system
     // This will be handled via RightClickBlock event in the main mod class
-
-    @SuppressWarnings("unchecked")
-    protected static <E extends BlockEntity, A extends BlockEntity> BlockEntityTicker<A> createTickerHelper(
-            BlockEntityType<A> type, BlockEntityType<E> expectedType, BlockEntityTicker<? super E> ticker) {
-        return expectedType == type ? (BlockEntityTicker<A>) ticker : null;
-    }
 }
@@ -4,406 +4,209 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.protocol.Packet;
-import net.minecraft.network.protocol.game.ClientGamePacketListener;
-import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.resources.ResourceLocation;
-import net.neoforged.fml.ModList;
+import net.neoforged.neoforge.network.PacketDistributor;
+import nl.streats1.rubiusaddons.Config;
 import nl.streats1.rubiusaddons.RubiusCobblemonAdditions;
 import nl.streats1.rubiusaddons.block.CreatePoweredHealingMachineBlock;
+import nl.streats1.rubiusaddons.diagnostics.HealingMachineEvents;
+import nl.streats1.rubiusaddons.diagnostics.HealingMachineMetrics;
+import nl.streats1.rubiusaddons.integration.CobblemonIntegration;
+import nl.streats1.rubiusaddons.integration.CreateIntegration;
+import nl.streats1.rubiusaddons.integration.KineticBinding;
+import nl.streats1.rubiusaddons.integration.PartyHealCache;
+import nl.streats1.rubiusaddons.network.HealingMachineSyncPayload;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 // Direct Cobblemon API imports (available via Maven dependency)
-import com.cobblemon.mod.common.Cobblemon;
-import com.cobblemon.mod.common.api.storage.PokemonStoreManager;
-import com.cobblemon.mod.common.api.storage.party.PartyStore;
 import com.cobblemon.mod.common.battles.BattleRegistry;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.Map;
 
     /**
      * Block entity for the Create-powered healing machine.
      * Integrates Create's rotation system with Cobblemon's healing machine functionality.
      * Accepts RPM from bottom, left, and right via any Create kinetic block (shafts, belts, gearboxes, etc.), but not cogs.
      *
-     * Implements Create's IHaveGoggleInformation interface via reflection to support goggles display.
+     * Goggle information is provided by {@link #addToGoggleTooltip}; when Create is loaded the machine
+     * is a {@link GoggleHealingMachineBlockEntity}, which exposes it through Create's interface.
      */
 public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
     
-    // Cache for Create's IHaveGoggleInformation interface check
-    private static Class<?> goggleInterface = null;
-    private static boolean goggleInterfaceChecked = false;
+    // SU thresholds, RPM bands and recharge curve live in HealingMachineTiming
     
-    /**
-     * Checks if Create's IHaveGoggleInformation interface is available and caches it.
-     */
-    private static Class<?> getGoggleInterface() {
-        if (goggleInterfaceChecked) {
-            return goggleInterface;
-        }
-        goggleInterfaceChecked = true;
-        
-        if (!ModList.get().isLoaded("create")) {
-            return null;
-        }
-        
-        try {
-            goggleInterface = Class.forName("com.simibubi.create.content.contraptions.goggles.IHaveGoggleInformation");
-        } catch (ClassNotFoundException e) {
-            // Interface not found - Create might be different version
-            goggleInterface = null;
-        }
-        
-        return goggleInterface;
-    }
+    // Kinetic sampling, power state, heal completion and recharge: the wake-up logic and its state.
+    // Shared with the JMH benchmarks; this block entity is its host in the level
+    private final HealingMachineCore core = new HealingMachineCore(new KineticInputs(), new LevelHost());
+    private final BlockPos.MutableBlockPos samplePos = new BlockPos.MutableBlockPos(); // Reused for neighbour lookups
     
-    /**
-     * Checks if this block entity should be treated as implementing Create's goggles interface.
-     * This allows Create's goggles system to detect and use our block entity.
-     */
-    public boolean isInstanceOfGoggleInterface() {
-        return getGoggleInterface() != null;
-    }
+    // The machine has no block entity ticker: it sleeps until a scheduled block tick wakes it.
+    // Game time of the pending wake-up (not saved - scheduled ticks persist with the chunk).
+    private long scheduledWakeTime = HealingMachineTiming.NO_WAKE;
     
-    // SU (Stress Units) thresholds for recharge time reduction
-    // SU represents the stress capacity/usage of the Create rotation network
-    private static final int MIN_SU_FOR_BOOST = 256; // Minimum SU to start reducing recharge time
-    private static final int MAX_SU_FOR_INSTANT = 1024; // SU for instant recharge
-
-    // RPM thresholds for light/power state (0 = blue, 1 = yellow, 2 = red)
-    private static final float RPM_THRESHOLD_MEDIUM = 12.0f;  // >= 12 RPM = medium (yellow)
-    private static final float RPM_THRESHOLD_FULL = 32.0f;   // >= 32 RPM = full (red)
-    
-    // Recharge time constants (in seconds)
-    // Try to get the actual recharge time from Cobblemon's healing machine
-    private static final int BASE_RECHARGE_TIME = getCobblemonRechargeTime(); // Match Cobblemon's default recharge time
-    private static final int MIN_RECHARGE_TIME = 350; // ~5.8 minutes at MIN_SU+ SU
-    private static final int INSTANT_RECHARGE_TIME = 0; // Instant at MAX_SU SU
-    
-    /**
-     * Attempts to get the recharge time from Cobblemon's healing machine block entity.
-     * Falls back to 300 seconds (5 minutes) if not found, which is a common default.
-     */
-    private static int getCobblemonRechargeTime() {
-        if (!ModList.get().isLoaded("cobblemon")) {
-            return 300; // Default fallback: 5 minutes
-        }
-        
-        try {
-            // Try to find Cobblemon's healing machine block entity class
-            Class<?> healingMachineClass = Class.forName("com.cobblemon.mod.common.block.entity.HealingMachineBlockEntity");
-            
-            // Try to get a static field or method that contains the recharge time
-            // Common field names: RECHARGE_TIME, COOLDOWN_TIME, RECHARGE_TICKS, etc.
-            String[] possibleFieldNames = {"RECHARGE_TIME", "COOLDOWN_TIME", "RECHARGE_TICKS", "COOLDOWN_TICKS", "RECHARGE_TIME_SECONDS"};
-            
-            for (String fieldName : possibleFieldNames) {
-                try {
-                    var field = healingMachineClass.getField(fieldName);
-                    Object value = field.get(null); // Static field
-                    if (value instanceof Number) {
-                        int ticks = ((Number) value).intValue();
-                        // Convert ticks to seconds if needed (assume it's in ticks if > 1000, seconds if < 1000)
-                        if (ticks > 1000) {
-                            return ticks / 20; // Convert ticks to seconds
-                        } else {
-                            return ticks; // Already in seconds
-                        }
-                    }
-                } catch (NoSuchFieldException | IllegalAccessException e) {
-                    // Try next field name
-                }
-            }
-            
-            // Try to find a method that returns recharge time
-            String[] possibleMethodNames = {"getRechargeTime", "getCooldownTime", "getRechargeTicks", "getCooldownTicks"};
-            for (String methodName : possibleMethodNames) {
-                try {
-                    var method = healingMachineClass.getMethod(methodName);
-                    Object result = method.invoke(null); // Static method
-                    if (result instanceof Number) {
-                        int ticks = ((Number) result).intValue();
-                        if (ticks > 1000) {
-                            return ticks / 20; // Convert ticks to seconds
-                        } else {
-                            return ticks; // Already in seconds
-                        }
-                    }
-                } catch (NoSuchMethodException | IllegalAccessException | java.lang.reflect.InvocationTargetException e) {
-                    // Try next method name
-                }
-            }
-        } catch (ClassNotFoundException e) {
-            // Cobblemon class not found, use default
-        } catch (Exception e) {
-            // Any other error, use default
-        }
-        
-        // Default fallback: 5 minutes (300 seconds) - a common value for healing machines
-        return 300;
-    }
+    // Player being healed (the heal itself is tracked by the core)
+    private Player healingPlayer = null; // Track which player is being healed
+    private UUID healingPlayerUUID = null; // Store UUID for persistence
     
-    // Cache for reflection results to avoid repeated lookups and log spam
-    private static final Map<String, Boolean> REFLECTION_CACHE = new ConcurrentHashMap<>();
-    private static volatile boolean hasLoggedBattleClassNotFound = false;
-    private static volatile boolean hasLoggedCompanionCanHealError = false;
+    // Goggle tooltip lines, cached with the displayed values they were built from (client side only)
+    private static final int GOGGLE_STATUS_HEALING = -2;
+    private static final int GOGGLE_STATUS_READY = -1;
+    private java.util.List<net.minecraft.network.chat.Component> goggleLines = null;
+    private int goggleRPM;
+    private int goggleSU;
+    private int goggleStatus;
     
-    // Current Stress Units (SU) from Create rotation system
-    private float currentSU = 0.0f;
+    // Pokeballs on the tray, one ResourceLocation name per party slot (like Cobblemon does).
+    // Replaced, never modified, so the renderer reads it without locking
+    private volatile PokeballSlots healingPokeballs = PokeballSlots.EMPTY;
     
-    // Current RPM (rotation speed) from Create rotation system (for goggles display)
-    private float currentRPM = 0.0f;
+    // NBT schema: 1 = unversioned original (derived SU/RPM, pokeballs as a string-keyed compound),
+    // 2 = compact (no derived fields, defaults omitted, pokeballs as palette + slot index array)
+    private static final byte LEGACY_SCHEMA_VERSION = 1;
+    private static final byte SCHEMA_VERSION = 2;
     
-    // Healing progress tracking
-    private long healingStartTime = 0;
-    private boolean isHealing = false;
-    private Player healingPlayer = null; // Track which player is being healed
-    private UUID healingPlayerUUID = null; // Store UUID for persistence
+    // Block update flags for HEALING / POWER_STATE changes: re-send to clients only
+    private static final int COSMETIC_UPDATE_FLAGS = Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE;
     
-    // Pokeball data for client-side rendering (synced from server)
-    // Store pokeball ResourceLocation names (like Cobblemon does) instead of ItemStacks
-    // This matches Cobblemon's approach: Map<Int, PokeBall> stored as ResourceLocation strings
-    private java.util.Map<Integer, net.minecraft.resources.ResourceLocation> healingPokeballNames = new java.util.HashMap<>();
+    // Field groups changed since the last client sync (HealingMachineSyncPayload bits)
+    private int pendingSync = 0;
     
-    // Recharge tracking (time when healing completed, used to calculate recharge cooldown)
-    private long rechargeStartTime = 0; // Game time when recharge started (after healing completed)
+    // Machines with a pending sync, flushed at the end of the server tick (server thread only)
+    private static final Set<CreatePoweredHealingMachineBlockEntity> PENDING_SYNC = new LinkedHashSet<>();
     
     public CreatePoweredHealingMachineBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.CREATE_POWERED_HEALING_MACHINE.get(), pos, state);
     }
 
+
+    /**
+     * Runs one wake-up of the machine. Called from the block's scheduled tick, never every game tick.
+     * Afterwards the machine schedules its next wake-up, or goes dormant if nothing is pending.
+     */
     public static void tick(Level level, BlockPos pos, BlockState state, CreatePoweredHealingMachineBlockEntity blockEntity) {
         if (level.isClientSide) {
             return;
         }
         
-        // Update SU from Create rotation system
-        float oldSU = blockEntity.currentSU;
-        blockEntity.updateSU(level, pos);
-        
-        // Update block state if SU changed (to update color from red to yellow)
-        if (Math.abs(oldSU - blockEntity.currentSU) > 0.1f) {
-            blockEntity.updateBlockState(blockEntity.isHealing);
-        }
-        
-        // Handle healing logic if Cobblemon is loaded
-        if (ModList.get().isLoaded("cobblemon")) {
-            blockEntity.tickHealing(level);
-        }
+        // The tick that was pending has fired
+        blockEntity.scheduledWakeTime = HealingMachineTiming.NO_WAKE;
+        blockEntity.core.wake(level.getGameTime());
     }
     
-    
     /**
-     * Updates the current SU and RPM by checking Create's rotation system.
-     * Only checks bottom, left, and right for kinetic blocks (shafts, belts, gearboxes, etc.; no cogs).
-     * Left and right are relative to the block's facing direction.
+     * Makes sure the machine wakes up within the given number of ticks.
+     * A pending wake-up that is already early enough is kept; a later one is pulled forward.
+     *
+     * @param delay Ticks from now (clamped to at least 1)
      */
-    private void updateSU(Level level, BlockPos pos) {
-        if (!ModList.get().isLoaded("create")) {
-            currentSU = 0.0f;
+    public void requestWake(long delay) {
+        if (!(level instanceof ServerLevel serverLevel)) {
             return;
         }
         
-        // Get the block's facing direction to determine left/right
-        BlockState state = getBlockState();
-        Direction facing = Direction.NORTH; // Default
-        if (state.hasProperty(CreatePoweredHealingMachineBlock.FACING)) {
-            facing = state.getValue(CreatePoweredHealingMachineBlock.FACING);
-        }
-        
-        // Calculate left and right directions relative to facing
-        Direction left = facing.getCounterClockWise();  // Left side relative to facing
-        Direction right = facing.getClockWise();       // Right side relative to facing
-        
-        // Check for Create kinetic connections from bottom, left, and right only (no cogs)
-        float maxSU = 0.0f;
-        float maxRPM = 0.0f;
-        
-        // Bottom (DOWN) - always below the block
-        BlockPos bottomPos = pos.below();
-        float[] bottomData = getSUAndRPMFromShaft(level, bottomPos, Direction.UP);
-        if (bottomData[0] > maxSU) {
-            maxSU = bottomData[0];
-            maxRPM = bottomData[1];
-        }
-        
-        // Left side (relative to facing direction)
-        BlockPos leftPos = pos.relative(left);
-        float[] leftData = getSUAndRPMFromShaft(level, leftPos, left.getOpposite());
-        if (leftData[0] > maxSU) {
-            maxSU = leftData[0];
-            maxRPM = leftData[1];
+        long gameTime = serverLevel.getGameTime();
+        long target = gameTime + Math.max(1L, delay);
+        if (scheduledWakeTime >= gameTime && scheduledWakeTime <= target) {
+            return; // Earlier wake-up already pending, it will reschedule as needed
         }
         
-        // Right side (relative to facing direction)
-        BlockPos rightPos = pos.relative(right);
-        float[] rightData = getSUAndRPMFromShaft(level, rightPos, right.getOpposite());
-        if (rightData[0] > maxSU) {
-            maxSU = rightData[0];
-            maxRPM = rightData[1];
+        // Only one scheduled tick per position is kept, so drop a later (or, after a chunk load, unknown) one first
+        var block = getBlockState().getBlock();
+        var blockTicks = serverLevel.getBlockTicks();
+        if (blockTicks.hasScheduledTick(worldPosition, block)) {
+            blockTicks.clearArea(new BoundingBox(worldPosition));
         }
         
-        currentSU = maxSU;
-        currentRPM = maxRPM;
+        serverLevel.scheduleTick(worldPosition, block, (int) Math.min(Integer.MAX_VALUE, target - gameTime));
+        scheduledWakeTime = target;
     }
     
     /**
-     * Gets SU (Stress Units) and RPM from an adjacent Create kinetic block.
-     * Accepts any kinetic block (shafts, belts, gearboxes, etc.) except cogs.
-     * Only checks bottom, left, and right sides.
-     * 
-     * @param level The level
-     * @param pos Position of the adjacent block
-     * @param fromDirection Direction from which we're receiving power
-     * @return Array with [SU, RPM] values
+     * Marks the kinetic inputs as stale and wakes the machine to re-sample them on the next tick.
+     * Called on neighbour changes and when the block entity is loaded; also drops the cached
+     * kinetic sources so they are looked up again.
      */
-    private float[] getSUAndRPMFromShaft(Level level, BlockPos pos, Direction fromDirection) {
-        // Return [SU, RPM]
-        float[] result = getSUAndRPMFromShaftInternal(level, pos, fromDirection);
-        return result;
+    public void markKineticDirty() {
+        core.markKineticDirty();
+        requestWake(1);
     }
     
-    /**
-     * Legacy method for backward compatibility - delegates to getSUAndRPMFromShaft.
-     * @deprecated Use getSUAndRPMFromShaft instead
-     */
-    @Deprecated
-    private float getSUFromShaft(Level level, BlockPos pos, Direction fromDirection) {
-        return getSUAndRPMFromShaft(level, pos, fromDirection)[0];
+    @Override
+    @SuppressWarnings("deprecation")
+    public void setBlockState(@NotNull BlockState blockState) {
+        BlockState oldState = getBlockState();
+        super.setBlockState(blockState);
+        // Rotated in place (e.g. wrench): left and right now point at different neighbours
+        if (oldState.hasProperty(CreatePoweredHealingMachineBlock.FACING) && blockState.hasProperty(CreatePoweredHealingMachineBlock.FACING)
+                && oldState.getValue(CreatePoweredHealingMachineBlock.FACING) != blockState.getValue(CreatePoweredHealingMachineBlock.FACING)) {
+            markKineticDirty();
+        }
     }
     
-    /**
-     * Internal method to get SU and RPM from an adjacent Create kinetic block.
-     * Accepts any KineticBlockEntity (shafts, belts, gearboxes, etc.) except cogs.
-     *
-     * @param level The level
-     * @param pos Position of the adjacent block
-     * @param fromDirection Direction from which we're receiving power
-     * @return Array with [SU, RPM] values
-     */
-    private float[] getSUAndRPMFromShaftInternal(Level level, BlockPos pos, Direction fromDirection) {
-        if (!ModList.get().isLoaded("create")) {
-            return new float[]{0.0f, 0.0f}; // [SU, RPM]
-        }
-        
-        try {
-            var blockState = level.getBlockState(pos);
-            var block = blockState.getBlock();
-            String blockName = block.getDescriptionId();
-            
-            // Exclude cogs: do not accept power from cogwheels
-            if (blockName.contains("cog")) {
-                return new float[]{0.0f, 0.0f};
-            }
-            
-            var blockEntity = level.getBlockEntity(pos);
-            if (blockEntity == null) {
-                return new float[]{0.0f, 0.0f};
-            }
-            
-            Class<?> kineticClass = Class.forName("com.simibubi.create.content.kinetics.base.KineticBlockEntity");
-            if (!kineticClass.isInstance(blockEntity)) {
-                return new float[]{0.0f, 0.0f};
-            }
-            
-            // Any Create kinetic block (shaft, belt, gearbox, etc.) – get speed
-            try {
-                var getSpeedMethod = kineticClass.getMethod("getSpeed");
-                float speed = ((Number) getSpeedMethod.invoke(blockEntity)).floatValue();
-                float rpm = Math.abs(speed);
-                float su = rpm * 16.0f;
-                if (rpm > 0.1f) {
-                    return new float[]{su, rpm}; // [SU, RPM]
-                }
-            } catch (NoSuchMethodException e) {
-                try {
-                    var getCapacityMethod = kineticClass.getMethod("getCapacity");
-                    float capacity = ((Number) getCapacityMethod.invoke(blockEntity)).floatValue();
-                    if (capacity > 0.1f) {
-                        float estimatedRPM = capacity / 16.0f;
-                        return new float[]{capacity, estimatedRPM}; // [SU, RPM]
-                    }
-                } catch (NoSuchMethodException e2) {
-                    // No methods available
-                }
-            }
-        } catch (ClassNotFoundException e) {
-            // Create classes not found
-        } catch (Exception e) {
-            // Create not available or API changed
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        // Chunk (re)load: neighbours may have changed while we were unloaded
+        markKineticDirty();
+        if (core.needsReconcile) {
+            // First wake-up runs the deferred post-load reconciliation
+            requestWake(1);
         }
-        
-        return new float[]{0.0f, 0.0f}; // [SU, RPM]
     }
     
     /**
-     * Ticks the healing process, checking if healing should complete.
-     * The healing animation itself is quick (a few seconds), but the recharge
-     * time after healing is what gets reduced by SU (Stress Units).
+     * Looks up which of bottom, left and right hold a usable Create kinetic block entity.
+     * Accepts any KineticBlockEntity (shafts, belts, gearboxes, etc.) except cogs.
+     * Left and right are relative to the block's facing direction.
      */
-    private void tickHealing(Level level) {
-        if (!isHealing) {
-            return;
+    private void resolveKineticSources(KineticInputs kineticInputs) {
+        // Get the block's facing direction to determine left/right
+        BlockState state = getBlockState();
+        Direction facing = Direction.NORTH; // Default
+        if (state.hasProperty(CreatePoweredHealingMachineBlock.FACING)) {
+            facing = state.getValue(CreatePoweredHealingMachineBlock.FACING);
         }
         
-        long currentTime = level.getGameTime();
-        long elapsedTicks = currentTime - healingStartTime;
-        
-        // Healing animation time (quick, not affected by SU)
-        // Cobblemon healing machines typically take a few seconds for the animation
-        long healingAnimationTime = 100L; // 5 seconds at 20 TPS
-        
-        // Check if healing animation is complete
-        if (elapsedTicks >= healingAnimationTime) {
-            completeHealing(level);
-        }
+        // Bottom (DOWN) is always below the block; left and right are relative to facing
+        kineticInputs.resolve(
+            findKineticSource(level, samplePos.setWithOffset(worldPosition, Direction.DOWN)),
+            findKineticSource(level, samplePos.setWithOffset(worldPosition, facing.getCounterClockWise())),
+            findKineticSource(level, samplePos.setWithOffset(worldPosition, facing.getClockWise()))
+        );
     }
     
     /**
-     * Calculates the recharge time in seconds based on current SU (Stress Units).
-     * Rules:
-     * - At 0 SU: Matches Cobblemon's default recharge time (attempts to read from Cobblemon, falls back to 300 seconds/5 minutes)
-     * - At MIN_SU+ (256 SU): 350 seconds (~5.8 minutes)
-     * - At MAX_SU (1024 SU): 0 seconds (instant recharge)
-     * - Linear scaling between MIN_SU and MAX_SU
-     * 
-     * @return Recharge time in seconds
+     * Gets the kinetic block entity at a neighbouring position, if it can power the machine.
+     *
+     * @param level The level
+     * @param pos Position of the adjacent block (may be mutable, it is not retained)
+     * @return the kinetic block entity, or null if there is no usable source there
      */
-    private int calculateRechargeTime() {
-        if (currentSU < MIN_SU_FOR_BOOST) {
-            // No SU boost - use default recharge time
-            return BASE_RECHARGE_TIME;
-        }
-        
-        if (currentSU >= MAX_SU_FOR_INSTANT) {
-            // Instant recharge at max SU
-            return INSTANT_RECHARGE_TIME;
+    @Nullable
+    private BlockEntity findKineticSource(Level level, BlockPos pos) {
+        var block = level.getBlockState(pos).getBlock();
+        if (CreateIntegration.classify(block) != CreateIntegration.KineticSourceKind.CANDIDATE) {
+            return null;
         }
         
-        // Linear scaling between MIN_SU (256) and MAX_SU (1024)
-        // At MIN_SU: MIN_RECHARGE_TIME (350 seconds)
-        // At MAX_SU: INSTANT_RECHARGE_TIME (0 seconds)
-        float suRange = MAX_SU_FOR_INSTANT - MIN_SU_FOR_BOOST; // 768 SU range
-        float suAboveThreshold = currentSU - MIN_SU_FOR_BOOST;
-        
-        // Calculate recharge time: starts at MIN_RECHARGE_TIME (350), scales down to 0
-        // Formula: recharge = 350 - (suAboveThreshold / 768) * 350
-        float rechargeSeconds = MIN_RECHARGE_TIME - 
-            (suAboveThreshold / suRange) * MIN_RECHARGE_TIME;
-        
-        return Math.max(0, (int) rechargeSeconds);
+        var blockEntity = level.getBlockEntity(pos);
+        return CreateIntegration.kinetics().isKinetic(blockEntity) ? blockEntity : null;
     }
     
     /**
@@ -413,19 +216,7 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
      * @return true if the machine is recharged, false if still on cooldown
      */
     private boolean isRecharged(Level level) {
-        if (rechargeStartTime == 0) {
-            // Never used before, or recharge completed
-            return true;
-        }
-        
-        long currentTime = level.getGameTime();
-        long elapsedTicks = currentTime - rechargeStartTime;
-        
-        // Calculate recharge time based on current SU (recharge time can change if SU changes)
-        int rechargeTimeSeconds = calculateRechargeTime();
-        long rechargeTimeTicks = rechargeTimeSeconds * 20L; // Convert seconds to ticks
-        
-        return elapsedTicks >= rechargeTimeTicks;
+        return core.isRecharged(level.getGameTime());
     }
     
     /**
@@ -435,17 +226,7 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
      * @return Remaining recharge time in seconds, or 0 if recharged
      */
     public int getRemainingRechargeTime(Level level) {
-        if (rechargeStartTime == 0 || isRecharged(level)) {
-            return 0;
-        }
-        
-        long currentTime = level.getGameTime();
-        long elapsedTicks = currentTime - rechargeStartTime;
-        int rechargeTimeSeconds = calculateRechargeTime();
-        long rechargeTimeTicks = rechargeTimeSeconds * 20L;
-        
-        long remainingTicks = Math.max(0, rechargeTimeTicks - elapsedTicks);
-        return (int) (remainingTicks / 20L); // Convert ticks to seconds
+        return core.remainingRechargeSeconds(level.getGameTime());
     }
     
     /**
@@ -453,7 +234,26 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
      * Uses the same interaction logic as Cobblemon's healing machine.
      */
     public InteractionResult onUse(Player player, InteractionHand hand) {
-        if (!ModList.get().isLoaded("cobblemon")) {
+        var event = HealingMachineEvents.INTERACTION.isEnabled() ? new HealingMachineEvents.Interaction() : null;
+        if (event != null) {
+            event.begin();
+        }
+        HealingMachineMetrics.increment(HealingMachineMetrics.Counter.INTERACTIONS);
+        InteractionResult result = interact(player, hand);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.at(worldPosition);
+                event.player = player.getGameProfile().getName();
+                event.result = result.name();
+                event.commit();
+            }
+        }
+        return result;
+    }
+    
+    private InteractionResult interact(Player player, InteractionHand hand) {
+        if (!CobblemonIntegration.isAvailable()) {
             return InteractionResult.PASS;
         }
         
@@ -461,6 +261,7 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
         try {
             // Check if player is in battle - prevent healing during battle
             if (isPlayerInBattle(player)) {
+                HealingMachineMetrics.increment(HealingMachineMetrics.Counter.REJECTED_IN_BATTLE);
                 if (player instanceof net.minecraft.server.level.ServerPlayer serverPlayer) {
                     var message = net.minecraft.network.chat.Component.translatable("message.rubius_cobblemon_additions.healing_machine.in.battle");
                     try {
@@ -476,6 +277,7 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
             
             // Check if machine is recharged
             if (!isRecharged(level)) {
+                HealingMachineMetrics.increment(HealingMachineMetrics.Counter.REJECTED_RECHARGING);
                 if (player instanceof net.minecraft.server.level.ServerPlayer serverPlayer) {
                     int remainingSeconds = getRemainingRechargeTime(level);
                     int minutes = remainingSeconds / 60;
@@ -499,7 +301,7 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
             
             // Check if player can heal
             if (canHealPokemon(player)) {
-                if (!isHealing) {
+                if (!core.isHealing) {
                     startHealing(player);
                     return InteractionResult.SUCCESS;
                 } else {
@@ -508,6 +310,7 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
                         return InteractionResult.CONSUME;
                     } else {
                         // Different player trying to use - show message
+                        HealingMachineMetrics.increment(HealingMachineMetrics.Counter.REJECTED_IN_USE);
                         if (player instanceof net.minecraft.server.level.ServerPlayer serverPlayer) {
                             var message = net.minecraft.network.chat.Component.translatable("message.rubius_cobblemon_additions.healing_machine.in.use");
                             serverPlayer.sendSystemMessage(message, true); // Action bar message
@@ -517,6 +320,7 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
                 }
             } else {
                 // Player has no Pokemon that need healing
+                HealingMachineMetrics.increment(HealingMachineMetrics.Counter.REJECTED_NOTHING_TO_HEAL);
                 if (player instanceof net.minecraft.server.level.ServerPlayer serverPlayer) {
                     var message = net.minecraft.network.chat.Component.translatable("message.rubius_cobblemon_additions.healing_machine.no.heal.needed");
                     serverPlayer.sendSystemMessage(message, true); // Action bar message
@@ -530,214 +334,6 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
         return InteractionResult.PASS;
     }
     
-    /**
-     * Helper method to get Cobblemon API instance using aggressive reflection.
-     * Tries all possible access patterns.
-     */
-    private Object getCobblemonAPI() {
-        try {
-            Class<?> cobblemonClass = Class.forName("com.cobblemon.mod.common.Cobblemon");
-            
-            // Try all possible access patterns
-            Object[] candidates = new Object[]{null, null, null, null}; // INSTANCE, Companion, static, direct
-            
-            // Pattern 1: INSTANCE
-            try {
-                var instanceField = cobblemonClass.getField("INSTANCE");
-                var instance = instanceField.get(null);
-                candidates[0] = instance;
-                
-                // Try ALL no-arg methods on INSTANCE
-                var allMethods = instance.getClass().getMethods();
-                var allDeclaredMethods = instance.getClass().getDeclaredMethods();
-                
-                for (var method : allMethods) {
-                    if (method.getParameterCount() == 0) {
-                        try {
-                            method.setAccessible(true);
-                            var result = method.invoke(instance);
-                            if (result != null) {
-                                // Check if result has getStorage method
-                                try {
-                                    result.getClass().getMethod("getStorage");
-                                    return result;
-                                } catch (NoSuchMethodException ignored) {}
-                            }
-                        } catch (Exception ignored) {}
-                    }
-                }
-                
-                for (var method : allDeclaredMethods) {
-                    if (method.getParameterCount() == 0 && !java.lang.reflect.Modifier.isStatic(method.getModifiers())) {
-                        try {
-                            method.setAccessible(true);
-                            var result = method.invoke(instance);
-                            if (result != null) {
-                                try {
-                                    result.getClass().getMethod("getStorage");
-                                    return result;
-                                } catch (NoSuchMethodException ignored) {}
-                            }
-                        } catch (Exception ignored) {}
-                    }
-                }
-                
-                // Try all fields on INSTANCE
-                var allFields = instance.getClass().getDeclaredFields();
-                for (var field : allFields) {
-                    try {
-                        field.setAccessible(true);
-                        var result = field.get(instance);
-                        if (result != null) {
-                            try {
-                                result.getClass().getMethod("getStorage");
-                                return result;
-                            } catch (NoSuchMethodException ignored) {}
-                        }
-                    } catch (Exception ignored) {}
-                }
-            } catch (Exception ignored) {}
-            
-            // Pattern 2: Companion
-            try {
-                var companionField = cobblemonClass.getField("Companion");
-                var companion = companionField.get(null);
-                candidates[1] = companion;
-                
-                var allMethods = companion.getClass().getMethods();
-                var allDeclaredMethods = companion.getClass().getDeclaredMethods();
-                
-                for (var method : allMethods) {
-                    if (method.getParameterCount() == 0) {
-                        try {
-                            method.setAccessible(true);
-                            var result = method.invoke(companion);
-                            if (result != null) {
-                                try {
-                                    result.getClass().getMethod("getStorage");
-                                    return result;
-                                } catch (NoSuchMethodException ignored) {}
-                            }
-                        } catch (Exception ignored) {}
-                    }
-                }
-                
-                for (var method : allDeclaredMethods) {
-                    if (method.getParameterCount() == 0) {
-                        try {
-                            method.setAccessible(true);
-                            var result = method.invoke(companion);
-                            if (result != null) {
-                                try {
-                                    result.getClass().getMethod("getStorage");
-                                    return result;
-                                } catch (NoSuchMethodException ignored) {}
-                            }
-                        } catch (Exception ignored) {}
-                    }
-                }
-            } catch (Exception ignored) {}
-            
-            // Pattern 3: Static methods on Cobblemon class
-            var staticMethods = cobblemonClass.getDeclaredMethods();
-            for (var method : staticMethods) {
-                if (java.lang.reflect.Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0) {
-                    try {
-                        method.setAccessible(true);
-                        var result = method.invoke(null);
-                        if (result != null) {
-                            try {
-                                result.getClass().getMethod("getStorage");
-                                return result;
-                            } catch (NoSuchMethodException ignored) {}
-                        }
-                    } catch (Exception ignored) {}
-                }
-            }
-            
-            // Pattern 4: Direct api() method
-            try {
-                var apiMethod = cobblemonClass.getMethod("api");
-                var result = apiMethod.invoke(null);
-                if (result != null) {
-                    try {
-                        result.getClass().getMethod("getStorage");
-                        return result;
-                    } catch (NoSuchMethodException ignored) {}
-                }
-            } catch (Exception ignored) {}
-            
-            // Pattern 5: CobblemonAPI service class
-            try {
-                Class<?> apiServiceClass = Class.forName("com.cobblemon.mod.common.api.CobblemonAPI");
-                var getInstanceMethod = apiServiceClass.getMethod("getInstance");
-                var result = getInstanceMethod.invoke(null);
-                if (result != null) {
-                    try {
-                        result.getClass().getMethod("getStorage");
-                        return result;
-                    } catch (NoSuchMethodException ignored) {}
-                }
-            } catch (Exception ignored) {}
-            
-            // Pattern 6: Try to find any class with "API" in the name that has getStorage
-            try {
-                // Search through common API class names
-                String[] apiClassNames = {
-                    "com.cobblemon.mod.common.api.CobblemonAPI",
-                    "com.cobblemon.mod.common.Cobblemon$Companion",
-                    "com.cobblemon.mod.common.Cobblemon$DefaultImpls"
-                };
-                
-                for (String className : apiClassNames) {
-                    try {
-                        Class<?> apiClass = Class.forName(className);
-                        var methods = apiClass.getMethods();
-                        var declaredMethods = apiClass.getDeclaredMethods();
-                        
-                        // Try all static methods
-                        for (var method : methods) {
-                            if (java.lang.reflect.Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0) {
-                                try {
-                                    method.setAccessible(true);
-                                    var result = method.invoke(null);
-                                    if (result != null) {
-                                        try {
-                                            result.getClass().getMethod("getStorage");
-                                            return result;
-                                        } catch (NoSuchMethodException ignored) {}
-                                    }
-                                } catch (Exception ignored) {}
-                            }
-                        }
-                        
-                        for (var method : declaredMethods) {
-                            if (java.lang.reflect.Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0) {
-                                try {
-                                    method.setAccessible(true);
-                                    var result = method.invoke(null);
-                                    if (result != null) {
-                                        try {
-                                            result.getClass().getMethod("getStorage");
-                                            return result;
-                                        } catch (NoSuchMethodException ignored) {}
-                                    }
-                                } catch (Exception ignored) {}
-                            }
-                        }
-                    } catch (ClassNotFoundException ignored) {}
-                }
-            } catch (Exception ignored) {}
-            
-        } catch (ClassNotFoundException e) {
-            RubiusCobblemonAdditions.LOGGER.error("Cobblemon class not found: {}", e.getMessage());
-        } catch (Exception e) {
-            RubiusCobblemonAdditions.LOGGER.error("Error in getCobblemonAPI: {}", e.getMessage(), e);
-        }
-        
-        return null;
-    }
-    
     /**
      * Checks if the player is currently in a battle.
      * Prevents healing during battle.
@@ -747,7 +343,7 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
      * Uses direct API imports (available via Maven dependency).
      */
     private boolean isPlayerInBattle(Player player) {
-        if (!ModList.get().isLoaded("cobblemon")) {
+        if (!CobblemonIntegration.isAvailable()) {
             return false;
         }
         
@@ -756,13 +352,7 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
         }
         
         try {
-            // Use direct API access
-            Cobblemon cobblemon = Cobblemon.INSTANCE;
-            if (cobblemon == null) {
-                return false;
-            }
-            
-            BattleRegistry battleRegistry = cobblemon.getBattleRegistry();
+            BattleRegistry battleRegistry = CobblemonIntegration.battles();
             if (battleRegistry == null) {
                 return false;
             }
@@ -771,11 +361,6 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
             return battleRegistry.getBattle(serverPlayer.getUUID()) != null;
             
         } catch (Exception e) {
-            // Only log unexpected errors once
-            String errorKey = "isPlayerInBattle_error";
-            if (!REFLECTION_CACHE.containsKey(errorKey)) {
-                REFLECTION_CACHE.put(errorKey, true);
-            }
         }
         
         // If we can't determine, allow healing (fail-safe)
@@ -784,7 +369,7 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
     
     /**
      * Checks if the player can heal their Pokemon using Cobblemon's API.
-     * Uses direct API imports (available via Maven dependency).
+     * Answered from PartyHealCache, which only rescans the party after it changed.
      */
     private boolean canHealPokemon(Player player) {
         if (!(player instanceof ServerPlayer serverPlayer)) {
@@ -792,82 +377,7 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
         }
         
         try {
-            // Use direct API access
-            Cobblemon cobblemon = Cobblemon.INSTANCE;
-            if (cobblemon == null) {
-                return false;
-            }
-            
-            PokemonStoreManager storageManager = cobblemon.getStorage();
-            if (storageManager == null) {
-                return false;
-            }
-            
-            // Get party store - use Object to avoid Kotlin interop issues when calling Kotlin methods
-            Object partyStoreObj = storageManager.getParty(serverPlayer);
-            if (partyStoreObj == null) {
-                return false;
-            }
-            
-            // Check if any Pokemon need healing by checking the party
-            // Use toGappyList() to get all Pokemon (including null slots)
-            // Note: toGappyList() is a Kotlin method, so we use reflection to avoid Kotlin interop issues
-            java.util.List<?> pokemonList = null;
-            try {
-                var toGappyListMethod = partyStoreObj.getClass().getMethod("toGappyList");
-                @SuppressWarnings("unchecked")
-                java.util.List<?> list = (java.util.List<?>) toGappyListMethod.invoke(partyStoreObj);
-                pokemonList = list;
-            } catch (Exception e) {
-                return false;
-            }
-            
-            if (pokemonList == null || pokemonList.isEmpty()) {
-                return false;
-            }
-            
-            // Check if any Pokemon have less than full HP
-            for (Object pokemon : pokemonList) {
-                if (pokemon == null) {
-                    continue; // Skip empty slots
-                }
-                
-                try {
-                    // Try getCurrentHealth/getMaxHealth first
-                    int currentHp = 0;
-                    int maxHp = 0;
-                    
-                    try {
-                        var hpMethod = pokemon.getClass().getMethod("getCurrentHealth");
-                        var maxHpMethod = pokemon.getClass().getMethod("getMaxHealth");
-                        currentHp = ((Number) hpMethod.invoke(pokemon)).intValue();
-                        maxHp = ((Number) maxHpMethod.invoke(pokemon)).intValue();
-                    } catch (NoSuchMethodException e) {
-                        // Try alternative method names
-                        try {
-                            var hpMethod = pokemon.getClass().getMethod("getHp");
-                            var maxHpMethod = pokemon.getClass().getMethod("getMaxHp");
-                            currentHp = ((Number) hpMethod.invoke(pokemon)).intValue();
-                            maxHp = ((Number) maxHpMethod.invoke(pokemon)).intValue();
-                        } catch (NoSuchMethodException e2) {
-                            // Can't check HP, skip this Pokemon
-                            continue;
-                        }
-                    }
-                    
-                    // If this Pokemon has less than full HP, healing is needed
-                    if (currentHp < maxHp) {
-                        return true;
-                    }
-                } catch (Exception e) {
-                    // Error checking this Pokemon, skip it
-                    continue;
-                }
-            }
-            
-            // All Pokemon are at full health, no healing needed
-            return false;
-            
+            return PartyHealCache.needsHealing(serverPlayer);
         } catch (Exception e) {
         }
         
@@ -880,39 +390,26 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
      */
     private void startHealing(Player player) {
         if (level != null && !level.isClientSide) {
-            isHealing = true;
-            healingStartTime = level.getGameTime();
+            var event = HealingMachineEvents.HEAL_START.isEnabled() ? new HealingMachineEvents.HealStart() : null;
+            if (event != null) {
+                event.begin();
+            }
+            // Also wakes the machine exactly when the healing animation is done
+            core.startHealing(level.getGameTime());
             healingPlayer = player;
             healingPlayerUUID = player.getUUID();
             
             // Get pokeball ResourceLocation names from party on server side (matches Cobblemon's approach)
-            if (player instanceof ServerPlayer serverPlayer) {
-                healingPokeballNames = getPokeballNamesFromParty(serverPlayer);
-            } else {
-                healingPokeballNames.clear();
-            }
+            healingPokeballs = player instanceof ServerPlayer serverPlayer
+                ? PokeballSlots.of(getPokeballNamesFromParty(serverPlayer))
+                : PokeballSlots.EMPTY;
             
             // Update block state to show healing animation
             updateHealingState(true);
             
             // Sync to client immediately so renderer can show pokeballs
             setChanged();
-            if (level instanceof net.minecraft.server.level.ServerLevel serverLevel) {
-                // Force sync block entity data to client
-                serverLevel.getChunkSource().blockChanged(worldPosition);
-                // Send block entity update packet directly to all nearby players
-                var packet = getUpdatePacket();
-                if (packet != null) {
-                    var players = serverLevel.getEntitiesOfClass(
-                        net.minecraft.server.level.ServerPlayer.class,
-                        new net.minecraft.world.phys.AABB(worldPosition).inflate(64.0),
-                        p -> true
-                    );
-                    for (var nearbyPlayer : players) {
-                        nearbyPlayer.connection.send(packet);
-                    }
-                }
-            }
+            markSync(HealingMachineSyncPayload.HEALING | HealingMachineSyncPayload.POKEBALLS);
             
             // Play healing start sound (try Cobblemon's sound first, fallback to note block)
             playHealingSound(true);
@@ -929,6 +426,15 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
                 }
             }
             
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.at(worldPosition);
+                    event.player = player.getGameProfile().getName();
+                    event.balls = healingPokeballs.count();
+                    event.commit();
+                }
+            }
         }
     }
     
@@ -938,148 +444,16 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
      * This is synced to the client for rendering.
      */
     private java.util.Map<Integer, net.minecraft.resources.ResourceLocation> getPokeballNamesFromParty(ServerPlayer serverPlayer) {
-        java.util.Map<Integer, net.minecraft.resources.ResourceLocation> pokeballMap = new java.util.HashMap<>();
-        
-        if (!ModList.get().isLoaded("cobblemon")) {
-            return pokeballMap;
-        }
-        
-        try {
-            // Use direct API access
-            Cobblemon cobblemon = Cobblemon.INSTANCE;
-            if (cobblemon == null) {
-                return pokeballMap;
-            }
-            
-            PokemonStoreManager storageManager = cobblemon.getStorage();
-            if (storageManager == null) {
-                return pokeballMap;
-            }
-            
-            // Get party store - use Object to avoid Kotlin interop issues
-            Object partyStoreObj = storageManager.getParty(serverPlayer);
-            if (partyStoreObj == null) {
-                return pokeballMap;
-            }
-            
-            // Get pokemon list using reflection (toGappyList() is a Kotlin method)
-            java.util.List<?> pokemonList = null;
-            try {
-                var toGappyListMethod = partyStoreObj.getClass().getMethod("toGappyList");
-                @SuppressWarnings("unchecked")
-                java.util.List<?> list = (java.util.List<?>) toGappyListMethod.invoke(partyStoreObj);
-                pokemonList = list;
-            } catch (Exception e) {
-                return pokeballMap;
-            }
-            
-            if (pokemonList == null || pokemonList.isEmpty()) {
-                return pokeballMap;
-            }
-            
-            // Convert pokemon to pokeball ResourceLocation names (matches Cobblemon's approach)
-            for (int index = 0; index < pokemonList.size(); index++) {
-                Object pokemon = pokemonList.get(index);
-                if (pokemon == null) {
-                    continue;
-                }
-                
-                // Get the pokeball ResourceLocation name (matches Cobblemon's pokemon.caughtBall.name)
-                net.minecraft.resources.ResourceLocation pokeballName = getPokeballNameFromPokemon(pokemon);
-                if (pokeballName != null) {
-                    pokeballMap.put(index, pokeballName);
-                }
-            }
-            
-        } catch (Exception e) {
-        }
-        
-        return pokeballMap;
-    }
-    
-    /**
-     * Gets a pokeball ResourceLocation name from a Pokemon object (server-side).
-     * Matches Cobblemon's approach: pokemon.caughtBall.name
-     */
-    private net.minecraft.resources.ResourceLocation getPokeballNameFromPokemon(Object pokemon) {
-        try {
-            // Try to get the caught ball (matches Cobblemon's pokemon.caughtBall)
-            var getCaughtBallMethod = pokemon.getClass().getMethod("getCaughtBall");
-            Object pokeBall = getCaughtBallMethod.invoke(pokemon);
-            
-            if (pokeBall != null) {
-                // Get the name property (matches Cobblemon's pokeBall.name)
-                try {
-                    var getNameMethod = pokeBall.getClass().getMethod("getName");
-                    Object name = getNameMethod.invoke(pokeBall);
-                    if (name instanceof net.minecraft.resources.ResourceLocation resourceLocation) {
-                        return resourceLocation;
-                    } else if (name != null) {
-                        // Try to convert to ResourceLocation
-                        return net.minecraft.resources.ResourceLocation.parse(name.toString());
-                    }
-                } catch (NoSuchMethodException e) {
-                }
-            }
-        } catch (Exception e) {
+        if (!CobblemonIntegration.isAvailable()) {
+            return new java.util.HashMap<>();
         }
         
-        // Fallback: default pokeball
-        return net.minecraft.resources.ResourceLocation.parse("cobblemon:poke_ball");
-    }
-    
-    /**
-     * Gets a pokeball ItemStack for a Pokemon object (server-side).
-     * Uses Cobblemon's PokeBall.stack() method, matching their exact approach.
-     */
-    private net.minecraft.world.item.ItemStack getPokeballForPokemon(Object pokemon) {
         try {
-            // Try to get the caught ball (matches Cobblemon's pokemon.caughtBall)
-            var getCaughtBallMethod = pokemon.getClass().getMethod("getCaughtBall");
-            Object pokeBall = getCaughtBallMethod.invoke(pokemon);
-            
-            if (pokeBall != null) {
-                // Use Cobblemon's PokeBall.stack() method (matches their exact approach)
-                try {
-                    var stackMethod = pokeBall.getClass().getMethod("stack", int.class);
-                    net.minecraft.world.item.ItemStack stack = (net.minecraft.world.item.ItemStack) stackMethod.invoke(pokeBall, 1);
-                    if (stack != null && !stack.isEmpty()) {
-                        return stack;
-                    }
-                } catch (NoSuchMethodException e) {
-                    // Try without parameter (default count = 1)
-                    try {
-                        var stackMethod = pokeBall.getClass().getMethod("stack");
-                        net.minecraft.world.item.ItemStack stack = (net.minecraft.world.item.ItemStack) stackMethod.invoke(pokeBall);
-                        if (stack != null && !stack.isEmpty()) {
-                            return stack;
-                        }
-                    } catch (NoSuchMethodException e2) {
-                        // Fallback to old method names
-                        try {
-                            var getItemStackMethod = pokeBall.getClass().getMethod("getItemStack");
-                            net.minecraft.world.item.ItemStack stack = (net.minecraft.world.item.ItemStack) getItemStackMethod.invoke(pokeBall);
-                            if (stack != null && !stack.isEmpty()) {
-                                return stack;
-                            }
-                        } catch (NoSuchMethodException ignored) {}
-                    }
-                }
-            }
+            return CobblemonIntegration.caughtBalls(serverPlayer);
         } catch (Exception e) {
         }
         
-        // Fallback: Get default pokeball item
-        try {
-            var pokeballItem = net.minecraft.core.registries.BuiltInRegistries.ITEM.get(
-                net.minecraft.resources.ResourceLocation.parse("cobblemon:poke_ball"));
-            if (pokeballItem != null) {
-                return new net.minecraft.world.item.ItemStack(pokeballItem);
-            }
-        } catch (Exception e) {
-        }
-        
-        return net.minecraft.world.item.ItemStack.EMPTY;
+        return new java.util.HashMap<>();
     }
     
     /**
@@ -1090,9 +464,8 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
     }
     
     /**
-     * Updates the block state based on healing status and power state.
-     * Power state: 0 = unpowered (red), 1 = powered (yellow)
-     * Healing overrides power state visually.
+     * Updates the block state based on healing status.
+     * The power state (colour) is left alone here; it is committed by the core's debounced power state update.
      */
     private void updateBlockState(boolean healing) {
         if (level != null && !level.isClientSide) {
@@ -1107,39 +480,70 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
                 );
             }
             
-            // Update power state from RPM: 0 = blue (RPM < 12), 1 = yellow (12–32 RPM), 2 = red (32+ RPM)
-            if (currentState.hasProperty(nl.streats1.rubiusaddons.block.CreatePoweredHealingMachineBlock.POWER_STATE)) {
-                int powerState;
-                if (currentRPM < RPM_THRESHOLD_MEDIUM) {
-                    powerState = 0; // Blue – like normal Cobblemon machine
-                } else if (currentRPM < RPM_THRESHOLD_FULL) {
-                    powerState = 1; // Yellow – medium (12–32 RPM)
-                } else {
-                    powerState = 2; // Red – full (32+ RPM)
-                }
-                newState = newState.setValue(
-                    nl.streats1.rubiusaddons.block.CreatePoweredHealingMachineBlock.POWER_STATE,
-                    powerState
-                );
-            }
-            
+            commitBlockState(currentState, newState);
+        }
+    }
+    
+    /**
+     * The power state (colour) the block shows, or -1 if the block state has none.
+     */
+    private int shownPowerState() {
+        BlockState currentState = getBlockState();
+        return currentState.hasProperty(CreatePoweredHealingMachineBlock.POWER_STATE)
+            ? currentState.getValue(CreatePoweredHealingMachineBlock.POWER_STATE) : -1;
+    }
+    
+    /**
+     * Shows a power state (0 = blue, 1 = yellow, 2 = red); the core decides when, see {@link HealingMachineCore}.
+     */
+    private void commitPowerState(int powerState) {
+        BlockState currentState = getBlockState();
+        if (currentState.hasProperty(CreatePoweredHealingMachineBlock.POWER_STATE)) {
+            commitBlockState(currentState, currentState.setValue(CreatePoweredHealingMachineBlock.POWER_STATE, powerState));
+        }
+    }
+    
+    /**
+     * Writes a changed block state to the level.
+     * HEALING and POWER_STATE are cosmetic (model, tint and light level), so this is a client-only update:
+     * no neighbour notification (no redstone/Create/neighbour machine recomputation) and no shape updates.
+     * UPDATE_CLIENTS already sends the block to trackers, so no separate sendBlockUpdated is needed.
+     */
+    private void commitBlockState(BlockState currentState, BlockState newState) {
+        if (level != null && !level.isClientSide) {
             if (newState != currentState) {
-                level.setBlock(worldPosition, newState, 3);
+                var event = HealingMachineEvents.BLOCK_STATE_COMMIT.isEnabled() ? new HealingMachineEvents.BlockStateCommit() : null;
+                if (event != null) {
+                    event.begin();
+                }
+                level.setBlock(worldPosition, newState, COSMETIC_UPDATE_FLAGS);
                 setChanged();
-                // Sync to client so pokeball rendering and colors work
-                level.sendBlockUpdated(worldPosition, currentState, newState, 3);
+                HealingMachineMetrics.increment(HealingMachineMetrics.Counter.BLOCK_STATE_COMMITS);
+                if (event != null) {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.at(worldPosition);
+                        event.healing = newState.hasProperty(CreatePoweredHealingMachineBlock.HEALING)
+                            && newState.getValue(CreatePoweredHealingMachineBlock.HEALING);
+                        event.powerState = newState.hasProperty(CreatePoweredHealingMachineBlock.POWER_STATE)
+                            ? newState.getValue(CreatePoweredHealingMachineBlock.POWER_STATE) : 0;
+                        event.commit();
+                    }
+                }
             }
         }
     }
     
     /**
-     * Completes the healing process.
-     * Uses Cobblemon's healing API to actually heal the player's Pokemon.
-     * This uses the same healing logic as the normal healing machine.
+     * Heals the party of the player using the machine, once the core completes the heal.
+     * Uses Cobblemon's healing API, the same healing logic as the normal healing machine.
+     *
+     * @return the healed player's name (or their UUID if they are offline) for the HealComplete event
      */
-    private void completeHealing(Level level) {
+    @Nullable
+    private String completeHealing() {
         // Get the player if we have their UUID but not the player object
-        if (healingPlayer == null && healingPlayerUUID != null && level.getServer() != null) {
+        if (healingPlayer == null && healingPlayerUUID != null && level != null && level.getServer() != null) {
             healingPlayer = level.getServer().getPlayerList().getPlayer(healingPlayerUUID);
         }
         
@@ -1148,37 +552,17 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
             healPlayerPokemon(healingPlayer);
         }
         
-        // Start recharge timer (based on current SU)
-        rechargeStartTime = level.getGameTime();
-        
-        isHealing = false;
-        healingStartTime = 0;
+        String healed = healingPlayer != null ? healingPlayer.getGameProfile().getName()
+            : healingPlayerUUID != null ? healingPlayerUUID.toString() : null;
         healingPlayer = null;
         healingPlayerUUID = null;
-        healingPokeballNames.clear(); // Clear pokeballs when done
-        
-        // Update block state to stop healing animation and update power state
-        updateBlockState(false);
-        
-        setChanged();
-        
-        int rechargeTime = calculateRechargeTime();
+        healingPokeballs = PokeballSlots.EMPTY; // Clear pokeballs when done
+        return healed;
     }
     
-    /**
-     * Actually heals a player's Pokemon using Cobblemon's internal tools.
-     * This uses the same methods as Cobblemon's healing machine to ensure
-     * the same behavior and animations.
-     * 
-     * The correct approach is:
-     * 1. Get Cobblemon.INSTANCE
-     * 2. Call getStorage() to get PokemonStoreManager
-     * 3. Call getParty(ServerPlayer) to get PartyStore
-     * 4. Call partyStore.heal() to heal all Pokemon
-     */
     /**
      * Heals all Pokemon in the player's party using Cobblemon's API.
-     * Uses direct API imports (available via Maven dependency).
+     * Uses the same PartyStore.heal() as Cobblemon's healing machine, so behaviour matches.
      */
     private void healPlayerPokemon(Player player) {
         if (!(player instanceof ServerPlayer serverPlayer)) {
@@ -1186,35 +570,11 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
         }
         
         try {
-            // Use direct API access (no reflection needed!)
-            Cobblemon cobblemon = Cobblemon.INSTANCE;
-            if (cobblemon == null) {
-                RubiusCobblemonAdditions.LOGGER.error("Cobblemon.INSTANCE is null");
-                return;
-            }
-            
-            PokemonStoreManager storageManager = cobblemon.getStorage();
-            if (storageManager == null) {
-                RubiusCobblemonAdditions.LOGGER.error("PokemonStoreManager is null");
-                return;
-            }
-            
-            // Get party store - use Object to avoid Kotlin interop issues
-            Object partyStoreObj = storageManager.getParty(serverPlayer);
-            if (partyStoreObj == null) {
+            if (!CobblemonIntegration.healParty(serverPlayer)) {
                 RubiusCobblemonAdditions.LOGGER.error("PartyStore is null for player: {}", serverPlayer.getName().getString());
                 return;
             }
-            
-            // Heal all Pokemon in the party using reflection (heal() is a Kotlin method)
-            try {
-                var healMethod = partyStoreObj.getClass().getMethod("heal");
-                healMethod.invoke(partyStoreObj);
-            } catch (Exception e) {
-                RubiusCobblemonAdditions.LOGGER.error("Could not heal party: {}", e.getMessage());
-                return;
-            }
-            
+            PartyHealCache.invalidate(serverPlayer.getUUID());
             
             // Play healing complete sound
             playHealingSound(false);
@@ -1226,35 +586,6 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
         }
     }
     
-    /**
-     * Heals a single Pokemon using various possible method names.
-     */
-    private void healSinglePokemon(Object pokemon) {
-        try {
-            // Try different possible method names that Cobblemon might use
-            String[] healMethodNames = {"heal", "healToFull", "restoreHealth", "fullHeal"};
-            for (String methodName : healMethodNames) {
-                try {
-                    var healMethod = pokemon.getClass().getMethod(methodName);
-                    healMethod.invoke(pokemon);
-                    return;
-                } catch (NoSuchMethodException ignored) {}
-            }
-            
-            // Set health directly to max
-            try {
-                var setHpMethod = pokemon.getClass().getMethod("setCurrentHealth", float.class);
-                var maxHpMethod = pokemon.getClass().getMethod("getMaxHealth");
-                var maxHp = ((Number) maxHpMethod.invoke(pokemon)).floatValue();
-                setHpMethod.invoke(pokemon, maxHp);
-            } catch (NoSuchMethodException e) {
-                RubiusCobblemonAdditions.LOGGER.warn("Could not find heal method for Pokemon: {}", e.getMessage());
-            }
-        } catch (Exception e) {
-            RubiusCobblemonAdditions.LOGGER.warn("Error healing single Pokemon: {}", e.getMessage());
-        }
-    }
-    
     /**
      * Sends the healing complete message to the player.
      */
@@ -1301,7 +632,7 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
      * Gets the current SU (Stress Units) of the machine.
      */
     public float getCurrentSU() {
-        return currentSU;
+        return core.currentSU;
     }
     
     /**
@@ -1309,21 +640,21 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
      * Used for Create goggles display.
      */
     public float getCurrentRPM() {
-        return currentRPM;
+        return core.currentRPM;
     }
     
     /**
      * Checks if the machine is currently healing.
      */
     public boolean isHealing() {
-        return isHealing;
+        return core.isHealing;
     }
     
     /**
      * Gets the healing start time (for client-side rendering).
      */
     public long getHealingStartTime() {
-        return healingStartTime;
+        return core.healingStartTime;
     }
     
     /**
@@ -1335,149 +666,340 @@ public class CreatePoweredHealingMachineBlockEntity extends BlockEntity {
     }
     
     /**
-     * Gets the pokeball ResourceLocation names for rendering (synced from server).
-     * Matches Cobblemon's approach: returns Map<Int, ResourceLocation>.
+     * Gets the pokeballs on the tray for rendering (synced from server).
+     * The snapshot is immutable; a new one is published whenever the tray changes.
      */
-    public java.util.Map<Integer, net.minecraft.resources.ResourceLocation> getHealingPokeballNames() {
-        return healingPokeballNames != null ? healingPokeballNames : new java.util.HashMap<>();
+    public PokeballSlots getHealingPokeballs() {
+        return healingPokeballs;
     }
     
-    @Override
-    public @Nullable Packet<ClientGamePacketListener> getUpdatePacket() {
-        return ClientboundBlockEntityDataPacket.create(this);
+    /**
+     * Marks field groups (see {@link HealingMachineSyncPayload}) as changed since the last sync.
+     * The machine is queued once; everything marked during a server tick goes out in one payload.
+     */
+    private void markSync(int fields) {
+        if (level == null || level.isClientSide) {
+            return;
+        }
+        if (pendingSync == 0) {
+            PENDING_SYNC.add(this);
+        }
+        pendingSync |= fields;
     }
     
+    /**
+     * Sends every queued machine's changed field groups to the players tracking its chunk.
+     * Called once at the end of each server tick.
+     */
+    public static void flushPendingSyncs() {
+        if (PENDING_SYNC.isEmpty()) {
+            return;
+        }
+        for (CreatePoweredHealingMachineBlockEntity blockEntity : PENDING_SYNC) {
+            blockEntity.flushSync();
+        }
+        PENDING_SYNC.clear();
+    }
+    
+    /**
+     * Sends the changed field groups as one delta payload to the players tracking this chunk.
+     * Replaces full-NBT block entity update packets: the whole state only ships with the chunk.
+     */
+    private void flushSync() {
+        int fields = pendingSync;
+        pendingSync = 0;
+        if (fields == 0 || isRemoved() || !(level instanceof ServerLevel serverLevel)) {
+            return;
+        }
+        
+        var payload = HealingMachineSyncPayload.of(
+            worldPosition, fields, core.currentRPM, core.isHealing, core.healingStartTime,
+            core.rechargeStartTime, core.rechargeReadyAtGameTime, healingPokeballs
+        );
+        PacketDistributor.sendToPlayersTrackingChunk(serverLevel, new ChunkPos(worldPosition), payload);
+        HealingMachineMetrics.increment(HealingMachineMetrics.Counter.SYNC_PACKETS);
+    }
+    
+    /**
+     * Applies a delta sync from the server (client side). Groups not in the payload keep their value.
+     */
+    public void applySync(HealingMachineSyncPayload payload) {
+        if (payload.has(HealingMachineSyncPayload.KINETICS)) {
+            core.currentRPM = payload.rpm();
+            core.currentSU = core.currentRPM * KineticBinding.SU_PER_RPM;
+        }
+        if (payload.has(HealingMachineSyncPayload.HEALING)) {
+            core.isHealing = payload.healing();
+            core.healingStartTime = payload.healingStartTime();
+        }
+        if (payload.has(HealingMachineSyncPayload.RECHARGE)) {
+            core.rechargeStartTime = payload.rechargeStartTime();
+            core.rechargeReadyAtGameTime = payload.rechargeReadyAtGameTime();
+        }
+        if (payload.has(HealingMachineSyncPayload.POKEBALLS)) {
+            healingPokeballs = payload.pokeballs();
+        }
+    }
+    
+    // Deltas go through HealingMachineSyncPayload, so there is no getUpdatePacket override;
+    // the full client state only ships with the chunk data
     @Override
     public @NotNull CompoundTag getUpdateTag(@NotNull HolderLookup.Provider registries) {
         CompoundTag tag = super.getUpdateTag(registries);
-        saveAdditional(tag, registries);
+        writeSharedState(tag);
+        // RPM is derived from the Create network and not saved, but the client has no network to sample
+        tag.putFloat("CurrentRPM", core.currentRPM);
         return tag;
     }
     
     @Override
     public void handleUpdateTag(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider registries) {
         loadAdditional(tag, registries);
+        // Client copy: the server owns the block state, nothing here would ever reconcile it
+        core.needsReconcile = false;
     }
     
     @Override
     protected void saveAdditional(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider registries) {
         super.saveAdditional(tag, registries);
-        tag.putFloat("CurrentSU", currentSU);
-        tag.putFloat("CurrentRPM", currentRPM);
-        tag.putBoolean("IsHealing", isHealing);
-        tag.putLong("HealingStartTime", healingStartTime);
-        tag.putLong("RechargeStartTime", rechargeStartTime);
+        writeSharedState(tag);
         if (healingPlayerUUID != null) {
             tag.putUUID("HealingPlayerUUID", healingPlayerUUID);
         }
+    }
+    
+    /**
+     * Writes the state saved to disk and sent with the chunk, in the current {@link #SCHEMA_VERSION}.
+     * Default values are left out, and SU/RPM are not saved at all: they are re-sampled after loading.
+     */
+    private void writeSharedState(CompoundTag tag) {
+        tag.putByte("SchemaVersion", SCHEMA_VERSION);
+        if (core.isHealing) {
+            tag.putBoolean("IsHealing", true);
+            tag.putLong("HealingStartTime", core.healingStartTime);
+        }
+        if (core.rechargeStartTime != 0) {
+            tag.putLong("RechargeStartTime", core.rechargeStartTime);
+        }
         
-        // Save pokeball ResourceLocation names (matches Cobblemon's approach)
-        if (healingPokeballNames != null && !healingPokeballNames.isEmpty()) {
-            var pokeballsTag = new net.minecraft.nbt.CompoundTag();
-            for (var entry : healingPokeballNames.entrySet()) {
-                pokeballsTag.putString(entry.getKey().toString(), entry.getValue().toString());
-            }
-            tag.put("HealingPokeballNames", pokeballsTag);
-            if (level != null && !level.isClientSide) {
+        // Pokeballs: distinct names in a palette, plus one palette index per party slot (-1 = empty slot)
+        PokeballSlots pokeballs = healingPokeballs;
+        if (!pokeballs.isEmpty()) {
+            var palette = new net.minecraft.nbt.ListTag();
+            var paletteIndex = new java.util.HashMap<ResourceLocation, Integer>();
+            int[] slots = new int[pokeballs.size()];
+            for (int slot = 0; slot < slots.length; slot++) {
+                ResourceLocation ball = pokeballs.get(slot);
+                slots[slot] = ball == null ? -1 : paletteIndex.computeIfAbsent(ball, name -> {
+                    palette.add(net.minecraft.nbt.StringTag.valueOf(name.toString()));
+                    return palette.size() - 1;
+                });
             }
-        } else {
-            tag.remove("HealingPokeballNames");
+            tag.put("BallPalette", palette);
+            tag.putIntArray("BallSlots", slots);
         }
     }
     
     @Override
     public void loadAdditional(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider registries) {
         super.loadAdditional(tag, registries);
-        currentSU = tag.getFloat("CurrentSU");
-        currentRPM = tag.contains("CurrentRPM") ? tag.getFloat("CurrentRPM") : 0.0f;
-        isHealing = tag.getBoolean("IsHealing");
-        healingStartTime = tag.getLong("HealingStartTime");
-        rechargeStartTime = tag.getLong("RechargeStartTime");
-        if (tag.hasUUID("HealingPlayerUUID")) {
-            healingPlayerUUID = tag.getUUID("HealingPlayerUUID");
-            // Try to find the player on load
-            if (level != null && !level.isClientSide && healingPlayerUUID != null) {
-                if (level.getServer() != null) {
-                    healingPlayer = level.getServer().getPlayerList().getPlayer(healingPlayerUUID);
+        int schemaVersion = tag.contains("SchemaVersion", net.minecraft.nbt.Tag.TAG_BYTE) ? tag.getByte("SchemaVersion") : LEGACY_SCHEMA_VERSION;
+        
+        // Only present in the client update tag; on the server SU/RPM are re-sampled after loading
+        core.load(
+            tag.contains("CurrentRPM") ? tag.getFloat("CurrentRPM") : 0.0f,
+            tag.getBoolean("IsHealing"),
+            tag.getLong("HealingStartTime"),
+            tag.getLong("RechargeStartTime")
+        );
+        // The player itself is looked up by UUID when the heal completes
+        healingPlayer = null;
+        healingPlayerUUID = tag.hasUUID("HealingPlayerUUID") ? tag.getUUID("HealingPlayerUUID") : null;
+        
+        if (schemaVersion >= SCHEMA_VERSION) {
+            var palette = tag.getList("BallPalette", net.minecraft.nbt.Tag.TAG_STRING);
+            int[] slots = tag.getIntArray("BallSlots");
+            var balls = new ResourceLocation[slots.length];
+            for (int slot = 0; slot < slots.length; slot++) {
+                int index = slots[slot];
+                if (index >= 0 && index < palette.size()) {
+                    balls[slot] = ResourceLocation.tryParse(palette.getString(index));
                 }
             }
+            healingPokeballs = PokeballSlots.of(balls);
+        } else {
+            healingPokeballs = readLegacyPokeballs(tag);
         }
         
-        // Load pokeball ResourceLocation names (matches Cobblemon's approach)
-        healingPokeballNames.clear();
-        if (tag.contains("HealingPokeballNames", net.minecraft.nbt.Tag.TAG_COMPOUND)) {
-            var pokeballsTag = tag.getCompound("HealingPokeballNames");
-            for (String key : pokeballsTag.getAllKeys()) {
-                try {
-                    int index = Integer.parseInt(key);
-                    String pokeballId = pokeballsTag.getString(key);
-                    if (!pokeballId.isEmpty()) {
-                        var resourceLocation = net.minecraft.resources.ResourceLocation.parse(pokeballId);
-                        healingPokeballNames.put(index, resourceLocation);
-                    }
-                } catch (Exception e) {
-                }
-            }
-            if (level != null && level.isClientSide) {
-            }
-        } else {
-            if (level != null && level.isClientSide) {
+        // Block state is reconciled on the first wake-up after loading, never while the chunk is loading.
+        // During chunk deserialisation the level isn't set yet and onLoad schedules the wake-up;
+        // a live machine (e.g. /data merge) has no onLoad, so wake it here
+        if (level == null || !level.isClientSide) {
+            core.needsReconcile = true;
+            if (level != null) {
+                requestWake(1);
             }
         }
-        
-        // Update block state to match healing status and power state
-        if (level != null && !level.isClientSide) {
-            updateBlockState(isHealing);
+    }
+    
+    /**
+     * Migrates the unversioned schema: pokeball names in a compound keyed by the stringified slot.
+     * (Its CurrentSU/CurrentRPM keys are ignored; SU is re-sampled after loading.)
+     */
+    private static PokeballSlots readLegacyPokeballs(CompoundTag tag) {
+        if (!tag.contains("HealingPokeballNames", net.minecraft.nbt.Tag.TAG_COMPOUND)) {
+            return PokeballSlots.EMPTY;
+        }
+        var pokeballNames = new java.util.HashMap<Integer, ResourceLocation>();
+        var pokeballsTag = tag.getCompound("HealingPokeballNames");
+        for (String key : pokeballsTag.getAllKeys()) {
+            try {
+                int index = Integer.parseInt(key);
+                var resourceLocation = ResourceLocation.tryParse(pokeballsTag.getString(key));
+                if (resourceLocation != null) {
+                    pokeballNames.put(index, resourceLocation);
+                }
+            } catch (NumberFormatException e) {
+            }
         }
+        return PokeballSlots.of(pokeballNames);
     }
     
     /**
      * Provides information for Create's goggles display system.
-     * This method matches Create's IHaveGoggleInformation interface signature.
-     * Create's goggles system will call this method when a player looks at this block entity.
+     * This method matches Create's IHaveGoggleInformation interface signature, and implements it
+     * in {@link GoggleHealingMachineBlockEntity}. Create calls it when a player looks at the machine.
      * 
      * @param tooltip List to add tooltip lines to
      * @param isPlayerSneaking Whether the player is sneaking (for additional info)
      * @return true if information was added
      */
     public boolean addToGoggleTooltip(java.util.List<net.minecraft.network.chat.Component> tooltip, boolean isPlayerSneaking) {
-        if (!ModList.get().isLoaded("create")) {
-            return false;
+        // Values as displayed; the lines are only rebuilt when one of them changes
+        int displayedRPM = core.currentRPM > 0.1f ? Math.round(core.currentRPM) : 0;
+        int displayedSU = core.currentSU > 0.1f ? Math.round(core.currentSU) : 0;
+        int status = goggleStatus();
+        if (goggleLines == null || displayedRPM != goggleRPM || displayedSU != goggleSU || status != goggleStatus) {
+            goggleRPM = displayedRPM;
+            goggleSU = displayedSU;
+            goggleStatus = status;
+            goggleLines = buildGoggleLines(displayedRPM, displayedSU, status);
+        }
+        tooltip.addAll(goggleLines);
+        return true;
+    }
+    
+    /**
+     * The status line shown in the goggle tooltip, as a number:
+     * {@link #GOGGLE_STATUS_HEALING}, {@link #GOGGLE_STATUS_READY}, or the whole seconds of recharge left.
+     */
+    private int goggleStatus() {
+        if (core.isHealing) {
+            return GOGGLE_STATUS_HEALING;
         }
+        if (core.rechargeStartTime > 0 && level != null) {
+            int remainingSeconds = getRemainingRechargeTime(level);
+            if (remainingSeconds > 0) {
+                return remainingSeconds;
+            }
+        }
+        return GOGGLE_STATUS_READY;
+    }
+    
+    private static java.util.List<net.minecraft.network.chat.Component> buildGoggleLines(int rpm, int su, int status) {
+        var statusLine = switch (status) {
+            case GOGGLE_STATUS_HEALING -> net.minecraft.network.chat.Component.translatable("message.rubius_cobblemon_additions.healing_machine.start");
+            case GOGGLE_STATUS_READY -> net.minecraft.network.chat.Component.literal("Ready to heal");
+            default -> net.minecraft.network.chat.Component.translatable("message.rubius_cobblemon_additions.healing_machine.recharging", status / 60, status % 60);
+        };
+        // Speed and stress capacity match Create's format; total stress is 0 as we consume stress, not generate it
+        return java.util.List.of(
+            net.minecraft.network.chat.Component.literal("Speed: " + rpm + " RPM"),
+            net.minecraft.network.chat.Component.literal("Stress Capacity: " + su + " SU"),
+            net.minecraft.network.chat.Component.literal("Total Stress: 0 SU"),
+            statusLine
+        );
+    }
+    
+    /**
+     * Connects the {@link HealingMachineCore} to this block entity and its level.
+     */
+    private final class LevelHost implements HealingMachineCore.Host {
         
-        // Add RPM/Speed information (matches Create's format)
-        if (currentRPM > 0.1f) {
-            tooltip.add(net.minecraft.network.chat.Component.literal("Speed: " + String.format("%.0f", currentRPM) + " RPM"));
-        } else {
-            tooltip.add(net.minecraft.network.chat.Component.literal("Speed: 0 RPM"));
+        @Override
+        public BlockPos pos() {
+            return worldPosition;
         }
         
-        // Add Stress Capacity information (matches Create's format)
-        if (currentSU > 0.1f) {
-            tooltip.add(net.minecraft.network.chat.Component.literal("Stress Capacity: " + String.format("%.0f", currentSU) + " SU"));
-        } else {
-            tooltip.add(net.minecraft.network.chat.Component.literal("Stress Capacity: 0 SU"));
+        @Override
+        public KineticBinding kinetics() {
+            return CreateIntegration.kinetics();
         }
         
-        // Add Total Stress (currently 0, as we're consuming stress, not generating it)
-        tooltip.add(net.minecraft.network.chat.Component.literal("Total Stress: 0 SU"));
+        @Override
+        public void resolveKineticSources(KineticInputs inputs) {
+            CreatePoweredHealingMachineBlockEntity.this.resolveKineticSources(inputs);
+        }
         
-        // Add healing status
-        if (isHealing) {
-            tooltip.add(net.minecraft.network.chat.Component.translatable("message.rubius_cobblemon_additions.healing_machine.start"));
-        } else if (rechargeStartTime > 0 && level != null) {
-            int remainingSeconds = getRemainingRechargeTime(level);
-            if (remainingSeconds > 0) {
-                int minutes = remainingSeconds / 60;
-                int seconds = remainingSeconds % 60;
-                tooltip.add(net.minecraft.network.chat.Component.translatable("message.rubius_cobblemon_additions.healing_machine.recharging", minutes, seconds));
-            } else {
-                tooltip.add(net.minecraft.network.chat.Component.literal("Ready to heal"));
-            }
-        } else {
-            tooltip.add(net.minecraft.network.chat.Component.literal("Ready to heal"));
+        @Override
+        public boolean isSourceRemoved(Object source) {
+            return source instanceof BlockEntity blockEntity && blockEntity.isRemoved();
         }
         
-        return true;
+        @Override
+        public int kineticRepollInterval() {
+            return Config.KINETIC_REPOLL_INTERVAL.getAsInt();
+        }
+        
+        @Override
+        public int powerStateDebounceTicks() {
+            return Config.POWER_STATE_DEBOUNCE_TICKS.getAsInt();
+        }
+        
+        @Override
+        public int baseRechargeSeconds() {
+            return CobblemonIntegration.baseRechargeSeconds();
+        }
+        
+        @Override
+        public boolean healingAvailable() {
+            return CobblemonIntegration.isAvailable();
+        }
+        
+        @Override
+        public int shownPowerState() {
+            return CreatePoweredHealingMachineBlockEntity.this.shownPowerState();
+        }
+        
+        @Override
+        public void commitPowerState(int powerState) {
+            CreatePoweredHealingMachineBlockEntity.this.commitPowerState(powerState);
+        }
+        
+        @Override
+        public void reconcileBlockState(boolean healing) {
+            updateBlockState(healing);
+        }
+        
+        @Override
+        @Nullable
+        public String healParty() {
+            return completeHealing();
+        }
+        
+        @Override
+        public void requestWake(long delay) {
+            CreatePoweredHealingMachineBlockEntity.this.requestWake(delay);
+        }
+        
+        @Override
+        public void markSync(int fields) {
+            CreatePoweredHealingMachineBlockEntity.this.markSync(fields);
+        }
+        
+        @Override
+        public void setChanged() {
+            CreatePoweredHealingMachineBlockEntity.this.setChanged();
+        }
     }
 }
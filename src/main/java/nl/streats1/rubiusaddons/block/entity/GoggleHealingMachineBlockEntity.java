@@ -0,0 +1,28 @@
+package nl.streats1.rubiusaddons.block.entity;
+
+import com.simibubi.create.api.equipment.goggles.IHaveGoggleInformation;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.List;
+
+/**
+ * The healing machine block entity used when Create is loaded.
+ * Implements Create's IHaveGoggleInformation directly, so the goggle overlay finds the machine
+ * with its normal instanceof check and calls {@link #addToGoggleTooltip} as a plain interface call.
+ *
+ * This is the only class referencing Create's goggle API; it is only loaded through
+ * {@link ModBlockEntities} when Create is present.
+ */
+public class GoggleHealingMachineBlockEntity extends CreatePoweredHealingMachineBlockEntity implements IHaveGoggleInformation {
+
+    public GoggleHealingMachineBlockEntity(BlockPos pos, BlockState state) {
+        super(pos, state);
+    }
+
+    @Override
+    public boolean addToGoggleTooltip(List<Component> tooltip, boolean isPlayerSneaking) {
+        return super.addToGoggleTooltip(tooltip, isPlayerSneaking);
+    }
+}
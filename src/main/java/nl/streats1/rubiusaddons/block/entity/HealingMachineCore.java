@@ -0,0 +1,390 @@
+package nl.streats1.rubiusaddons.block.entity;
+
+import net.minecraft.core.BlockPos;
+import nl.streats1.rubiusaddons.diagnostics.HealingMachineEvents;
+import nl.streats1.rubiusaddons.diagnostics.HealingMachineMetrics;
+import nl.streats1.rubiusaddons.integration.KineticBinding;
+import nl.streats1.rubiusaddons.network.HealingMachineSyncPayload;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The server-side state and wake-up logic of one healing machine: kinetic sampling, the power state
+ * debounce, heal completion and the recharge deadline.
+ *
+ * Everything that touches the level goes through a {@link Host}. The block entity is one host;
+ * the JMH benchmarks (src/jmh) drive this same code with a stand-in host, so they measure the real tick.
+ */
+final class HealingMachineCore {
+
+    /**
+     * The world side of a healing machine, as seen by its wake-up logic.
+     */
+    interface Host {
+
+        /**
+         * Position of the machine, for JFR events.
+         */
+        BlockPos pos();
+
+        /**
+         * The Create kinetic binding (unavailable when Create isn't loaded).
+         */
+        KineticBinding kinetics();
+
+        /**
+         * Looks up the kinetic sources next to the machine and stores them in the inputs.
+         */
+        void resolveKineticSources(KineticInputs inputs);
+
+        /**
+         * Whether a cached kinetic source has been removed from the level.
+         */
+        boolean isSourceRemoved(Object source);
+
+        /**
+         * Ticks between safety re-polls of attached kinetic sources.
+         */
+        int kineticRepollInterval();
+
+        /**
+         * Minimum ticks between two power state (colour) commits.
+         */
+        int powerStateDebounceTicks();
+
+        /**
+         * Recharge time in seconds without any SU boost.
+         */
+        int baseRechargeSeconds();
+
+        /**
+         * Whether heals can complete (Cobblemon is loaded).
+         */
+        boolean healingAvailable();
+
+        /**
+         * The power state the block currently shows, or -1 if the block has none.
+         */
+        int shownPowerState();
+
+        /**
+         * Shows a new power state on the block.
+         */
+        void commitPowerState(int powerState);
+
+        /**
+         * Brings the block state in line with the healing flag.
+         */
+        void reconcileBlockState(boolean healing);
+
+        /**
+         * Heals the party of the player using the machine and clears the tray.
+         *
+         * @return the healed player's name for JFR events, or null if unknown
+         */
+        @Nullable
+        String healParty();
+
+        /**
+         * Makes sure the machine wakes up within the given number of ticks.
+         */
+        void requestWake(long delay);
+
+        /**
+         * Marks field groups (see {@link HealingMachineSyncPayload}) as changed since the last client sync.
+         */
+        void markSync(int fields);
+
+        /**
+         * Marks the machine's saved data as changed.
+         */
+        void setChanged();
+    }
+
+    private final Host host;
+
+    // Kinetic block entities found on the bottom, left and right sides.
+    // Resolved lazily and invalidated only by neighbour changes or a facing change.
+    final KineticInputs kineticInputs;
+
+    // Current Stress Units (SU) and RPM from Create rotation system
+    float currentSU = 0.0f;
+    float currentRPM = 0.0f;
+
+    // Kinetic inputs are only re-sampled when marked dirty (neighbour change, chunk load)
+    // or when the safety re-poll interval has elapsed
+    boolean kineticDirty = true;
+    long nextKineticPollTime = 0;
+
+    // Healing progress tracking
+    boolean isHealing = false;
+    long healingStartTime = 0;
+
+    // Game time when recharge started (after healing completed), 0 = not recharging
+    long rechargeStartTime = 0;
+
+    // Absolute game time at which the current recharge completes (0 = not recharging).
+    // Recomputed only when the SU-based recharge time changes or a heal completes,
+    // so recharge queries are a single comparison.
+    long rechargeReadyAtGameTime = 0;
+    int rechargeTimeSeconds;
+
+    // Set after loading; the block state is reconciled with the loaded data on the next wake-up
+    boolean needsReconcile = false;
+
+    // Game time of the last power state (colour) commit, for the debounce window (not saved)
+    private long lastPowerStateCommitTime = Long.MIN_VALUE / 2;
+
+    HealingMachineCore(KineticInputs kineticInputs, Host host) {
+        this.kineticInputs = kineticInputs;
+        this.host = host;
+        this.rechargeTimeSeconds = host.baseRechargeSeconds();
+    }
+
+    /**
+     * Runs one wake-up of the machine, then asks the host for the next one
+     * (none if the machine can stay dormant).
+     */
+    void wake(long gameTime) {
+        // First wake-up after loading: bring the block state in line with the loaded data.
+        // Every machine loaded with a chunk wakes on the same tick, so these writes happen together
+        // in the scheduled tick phase instead of during chunk deserialisation.
+        if (needsReconcile) {
+            needsReconcile = false;
+            host.reconcileBlockState(isHealing);
+        }
+
+        // Update SU from Create rotation system, but only when something may have changed
+        if (kineticDirty || gameTime >= nextKineticPollTime) {
+            kineticDirty = false;
+            nextKineticPollTime = gameTime + host.kineticRepollInterval();
+
+            var sampleEvent = HealingMachineEvents.KINETIC_SAMPLE.isEnabled() ? new HealingMachineEvents.KineticSample() : null;
+            if (sampleEvent != null) {
+                sampleEvent.begin();
+            }
+            float oldSU = currentSU;
+            updateSU();
+
+            // SU changes only go to clients; the block state (colour) follows the debounced band below
+            boolean suChanged = Math.abs(oldSU - currentSU) > 0.1f;
+            if (suChanged) {
+                host.markSync(HealingMachineSyncPayload.KINETICS | HealingMachineSyncPayload.RECHARGE);
+            }
+            HealingMachineMetrics.increment(HealingMachineMetrics.Counter.KINETIC_SAMPLES);
+            if (sampleEvent != null) {
+                sampleEvent.end();
+                if (sampleEvent.shouldCommit()) {
+                    sampleEvent.at(host.pos());
+                    sampleEvent.rpm = currentRPM;
+                    sampleEvent.su = currentSU;
+                    sampleEvent.changed = suChanged;
+                    sampleEvent.commit();
+                }
+            }
+        }
+
+        // Commit a power state (colour) band change, at most once per debounce window
+        updatePowerState(gameTime);
+
+        // The healing animation is quick (a few seconds); the recharge after it is what SU reduces
+        if (isHealing && host.healingAvailable() && gameTime - healingStartTime >= HealingMachineTiming.HEALING_ANIMATION_TICKS) {
+            completeHealing(gameTime);
+        }
+
+        // Recharge finished while we were asleep
+        if (rechargeStartTime != 0 && isRecharged(gameTime)) {
+            rechargeStartTime = 0;
+            rechargeReadyAtGameTime = 0;
+            host.setChanged();
+            host.markSync(HealingMachineSyncPayload.RECHARGE);
+        }
+
+        scheduleNextWake(gameTime);
+    }
+
+    /**
+     * Works out when the machine next has something to do and asks the host to wake it then.
+     * Nothing is requested for an idle machine (not healing, recharged, no kinetic source to watch):
+     * it stays dormant until a player uses it or a neighbour changes.
+     */
+    private void scheduleNextWake(long gameTime) {
+        long wakeTime = HealingMachineTiming.nextWakeTime(
+            gameTime,
+            kineticDirty,
+            kineticInputs.hasAnySource(),
+            nextKineticPollTime,
+            isHealing,
+            healingStartTime,
+            rechargeStartTime != 0 ? rechargeReadyAtGameTime : HealingMachineTiming.NO_WAKE
+        );
+
+        if (wakeTime != HealingMachineTiming.NO_WAKE) {
+            host.requestWake(wakeTime - gameTime);
+        }
+    }
+
+    /**
+     * Marks the kinetic inputs as stale and drops the cached sources so they are looked up again.
+     * The caller wakes the machine.
+     */
+    void markKineticDirty() {
+        kineticDirty = true;
+        kineticInputs.invalidate();
+    }
+
+    /**
+     * Updates the current SU and RPM from the cached kinetic sources.
+     * The sources are only re-resolved after a neighbour change (or when one was removed),
+     * so a steady-state sample is just three speed reads.
+     * Package-private for the allocation check in src/jmh.
+     */
+    void updateSU() {
+        KineticBinding kinetics = host.kinetics();
+        if (!kinetics.isAvailable()) {
+            kineticInputs.invalidate();
+            currentSU = 0.0f;
+            currentRPM = 0.0f;
+            updateRechargeTime();
+            return;
+        }
+
+        if (!kineticInputs.isResolved() || isAnyKineticSourceRemoved()) {
+            host.resolveKineticSources(kineticInputs);
+        }
+
+        currentRPM = kineticInputs.sampleRPM(kinetics);
+        currentSU = currentRPM * KineticBinding.SU_PER_RPM;
+        updateRechargeTime();
+    }
+
+    /**
+     * A cached source can disappear without us seeing a neighbour update (e.g. its chunk unloaded).
+     */
+    private boolean isAnyKineticSourceRemoved() {
+        for (int side = 0; side < KineticInputs.SIDES; side++) {
+            Object source = kineticInputs.get(side);
+            if (source != null && host.isSourceRemoved(source)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Commits the power state band for the current RPM: 0 = blue (RPM < 12), 1 = yellow (12–32 RPM), 2 = red (32+ RPM).
+     * Uses hysteresis around the thresholds and commits at most once per debounce window;
+     * a change that arrives inside the window is committed when the window ends.
+     */
+    private void updatePowerState(long gameTime) {
+        int shown = host.shownPowerState();
+        if (shown < 0) {
+            return;
+        }
+
+        int target = HealingMachineTiming.powerState(currentRPM, shown);
+        if (target == shown) {
+            return;
+        }
+
+        long commitTime = lastPowerStateCommitTime + host.powerStateDebounceTicks();
+        if (gameTime < commitTime) {
+            // Still inside the window: come back when it ends
+            host.requestWake(commitTime - gameTime);
+            return;
+        }
+
+        lastPowerStateCommitTime = gameTime;
+        host.commitPowerState(target);
+    }
+
+    /**
+     * Starts a heal; the machine completes it on the wake-up after the healing animation.
+     */
+    void startHealing(long gameTime) {
+        isHealing = true;
+        healingStartTime = gameTime;
+        host.requestWake(HealingMachineTiming.HEALING_ANIMATION_TICKS);
+    }
+
+    /**
+     * Completes the heal and starts the recharge timer (based on current SU).
+     */
+    private void completeHealing(long gameTime) {
+        var event = HealingMachineEvents.HEAL_COMPLETE.isEnabled() ? new HealingMachineEvents.HealComplete() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        String player = host.healParty();
+
+        rechargeStartTime = gameTime;
+        updateRechargeDeadline();
+        isHealing = false;
+        healingStartTime = 0;
+
+        // Update block state to stop healing animation
+        host.reconcileBlockState(false);
+
+        host.setChanged();
+        host.markSync(HealingMachineSyncPayload.HEALING | HealingMachineSyncPayload.POKEBALLS | HealingMachineSyncPayload.RECHARGE);
+        HealingMachineMetrics.increment(HealingMachineMetrics.Counter.HEALS_COMPLETED);
+
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.at(host.pos());
+                event.player = player;
+                event.rechargeSeconds = rechargeTimeSeconds;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Restores the saved state after loading. SU/RPM are not saved: the RPM is only known
+     * on the client (from the update tag), the server re-samples it.
+     */
+    void load(float rpm, boolean healing, long healingStartTime, long rechargeStartTime) {
+        this.currentRPM = rpm;
+        this.currentSU = rpm * KineticBinding.SU_PER_RPM;
+        this.isHealing = healing;
+        this.healingStartTime = healingStartTime;
+        this.rechargeStartTime = rechargeStartTime;
+        this.rechargeTimeSeconds = HealingMachineTiming.rechargeSeconds(currentSU, host.baseRechargeSeconds());
+        updateRechargeDeadline();
+    }
+
+    /**
+     * Re-derives the recharge time after an SU sample.
+     * The recharge deadline only moves when the SU lands in a different whole-second recharge time.
+     */
+    private void updateRechargeTime() {
+        int seconds = HealingMachineTiming.rechargeSeconds(currentSU, host.baseRechargeSeconds());
+        if (seconds != rechargeTimeSeconds) {
+            rechargeTimeSeconds = seconds;
+            updateRechargeDeadline();
+        }
+    }
+
+    /**
+     * Recomputes the absolute recharge deadline from the recharge start and current recharge time.
+     */
+    private void updateRechargeDeadline() {
+        rechargeReadyAtGameTime = rechargeStartTime != 0 ? rechargeStartTime + rechargeTimeSeconds * 20L : 0;
+    }
+
+    /**
+     * Whether the machine is recharged and ready to use: never used, or the deadline has passed.
+     */
+    boolean isRecharged(long gameTime) {
+        return gameTime >= rechargeReadyAtGameTime;
+    }
+
+    /**
+     * Remaining recharge time in whole seconds, 0 if recharged.
+     */
+    int remainingRechargeSeconds(long gameTime) {
+        long remainingTicks = rechargeReadyAtGameTime - gameTime;
+        return remainingTicks > 0 ? (int) (remainingTicks / 20L) : 0;
+    }
+}
@@ -0,0 +1,125 @@
+package nl.streats1.rubiusaddons.block.entity;
+
+/**
+ * Timing and power rules of the Create-powered healing machine.
+ * Pure functions over primitives with no Minecraft types, so they can be benchmarked
+ * (see src/jmh) without a running level.
+ */
+final class HealingMachineTiming {
+
+    // SU (Stress Units) thresholds for recharge time reduction
+    // SU represents the stress capacity/usage of the Create rotation network
+    static final int MIN_SU_FOR_BOOST = 256; // Minimum SU to start reducing recharge time
+    static final int MAX_SU_FOR_INSTANT = 1024; // SU for instant recharge
+
+    // RPM thresholds for light/power state (0 = blue, 1 = yellow, 2 = red)
+    static final float RPM_THRESHOLD_MEDIUM = 12.0f;  // >= 12 RPM = medium (yellow)
+    static final float RPM_THRESHOLD_FULL = 32.0f;   // >= 32 RPM = full (red)
+    static final float POWER_STATE_HYSTERESIS_RPM = 2.0f; // Dropping a band needs the RPM this far below its threshold
+
+    // Recharge time constants (in seconds)
+    static final int MIN_RECHARGE_TIME = 350; // ~5.8 minutes at MIN_SU+ SU
+    static final int INSTANT_RECHARGE_TIME = 0; // Instant at MAX_SU SU
+
+    // Healing animation time (quick, not affected by SU)
+    // Cobblemon healing machines typically take a few seconds for the animation
+    static final long HEALING_ANIMATION_TICKS = 100L; // 5 seconds at 20 TPS
+
+    // Marker for "no wake-up needed / pending"
+    static final long NO_WAKE = Long.MAX_VALUE;
+
+    private HealingMachineTiming() {
+    }
+
+    /**
+     * Calculates the recharge time in seconds based on SU (Stress Units).
+     * Rules:
+     * - Below MIN_SU (256 SU): the base (Cobblemon) recharge time
+     * - At MIN_SU+ (256 SU): 350 seconds (~5.8 minutes)
+     * - At MAX_SU (1024 SU): 0 seconds (instant recharge)
+     * - Linear scaling between MIN_SU and MAX_SU
+     *
+     * @param su Current stress units
+     * @param baseRechargeSeconds Recharge time without any SU boost
+     * @return Recharge time in seconds
+     */
+    static int rechargeSeconds(float su, int baseRechargeSeconds) {
+        if (su < MIN_SU_FOR_BOOST) {
+            // No SU boost - use default recharge time
+            return baseRechargeSeconds;
+        }
+
+        if (su >= MAX_SU_FOR_INSTANT) {
+            // Instant recharge at max SU
+            return INSTANT_RECHARGE_TIME;
+        }
+
+        // Linear scaling between MIN_SU (256) and MAX_SU (1024)
+        // Formula: recharge = 350 - (suAboveThreshold / 768) * 350
+        float suRange = MAX_SU_FOR_INSTANT - MIN_SU_FOR_BOOST; // 768 SU range
+        float suAboveThreshold = su - MIN_SU_FOR_BOOST;
+        float rechargeSeconds = MIN_RECHARGE_TIME - (suAboveThreshold / suRange) * MIN_RECHARGE_TIME;
+
+        return Math.max(0, (int) rechargeSeconds);
+    }
+
+    /**
+     * Maps RPM to the block's power state: 0 = blue (RPM < 12), 1 = yellow (12–32 RPM), 2 = red (32+ RPM).
+     */
+    static int powerState(float rpm) {
+        if (rpm < RPM_THRESHOLD_MEDIUM) {
+            return 0; // Blue – like normal Cobblemon machine
+        } else if (rpm < RPM_THRESHOLD_FULL) {
+            return 1; // Yellow – medium (12–32 RPM)
+        }
+        return 2; // Red – full (32+ RPM)
+    }
+
+    /**
+     * Maps RPM to the power state with hysteresis around the band thresholds.
+     * Rising to a higher band is immediate; dropping to a lower one only happens once the RPM is
+     * {@link #POWER_STATE_HYSTERESIS_RPM} below the threshold, so a network hovering at 12 or 32 RPM doesn't flicker.
+     *
+     * @param rpm Current RPM
+     * @param currentState The power state currently shown
+     * @return the power state to show
+     */
+    static int powerState(float rpm, int currentState) {
+        int target = powerState(rpm);
+        if (target >= currentState) {
+            return target;
+        }
+        // Stay in the current band while the RPM is within the hysteresis margin of it
+        return Math.max(target, Math.min(currentState, powerState(rpm + POWER_STATE_HYSTERESIS_RPM)));
+    }
+
+    /**
+     * Works out the game time at which a machine next has something to do.
+     *
+     * @param gameTime Current game time
+     * @param kineticDirty Kinetic inputs must be re-sampled
+     * @param watchKinetics A kinetic source is attached, so its speed must be re-polled
+     * @param nextKineticPollTime Game time of the next safety re-poll
+     * @param healing Whether a heal is in progress
+     * @param healingStartTime Game time the current heal started
+     * @param rechargeReadyTime Game time the recharge completes, or {@link #NO_WAKE} if not recharging
+     * @return the wake-up game time, or {@link #NO_WAKE} if the machine can stay dormant
+     */
+    static long nextWakeTime(long gameTime, boolean kineticDirty, boolean watchKinetics, long nextKineticPollTime,
+                             boolean healing, long healingStartTime, long rechargeReadyTime) {
+        long wakeTime = NO_WAKE;
+
+        if (kineticDirty) {
+            wakeTime = gameTime + 1;
+        } else if (watchKinetics) {
+            // Create speed changes don't cause neighbour updates, so keep watching attached networks
+            wakeTime = nextKineticPollTime;
+        }
+
+        if (healing) {
+            wakeTime = Math.min(wakeTime, healingStartTime + HEALING_ANIMATION_TICKS);
+        }
+
+        return Math.min(wakeTime, rechargeReadyTime);
+    }
+}
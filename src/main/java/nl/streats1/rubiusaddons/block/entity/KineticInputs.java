@@ -0,0 +1,77 @@
+package nl.streats1.rubiusaddons.block.entity;
+
+import nl.streats1.rubiusaddons.integration.KineticBinding;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The Create kinetic inputs of one healing machine: the kinetic block entities found
+ * on its bottom, left and right sides.
+ *
+ * The sources are resolved against the level by the block entity and kept until a neighbour
+ * changes; sampling only reads their speed through the {@link KineticBinding}, so it never
+ * touches the level and does not allocate.
+ */
+final class KineticInputs {
+
+    static final int BOTTOM = 0;
+    static final int LEFT = 1;
+    static final int RIGHT = 2;
+    static final int SIDES = 3;
+
+    // null = no usable source on that side
+    private final Object[] sources = new Object[SIDES];
+    private boolean resolved = false;
+
+    /**
+     * Whether the sources have been looked up since the last invalidation.
+     */
+    boolean isResolved() {
+        return resolved;
+    }
+
+    /**
+     * Stores freshly resolved sources (null for sides without a usable kinetic block).
+     */
+    void resolve(@Nullable Object bottom, @Nullable Object left, @Nullable Object right) {
+        sources[BOTTOM] = bottom;
+        sources[LEFT] = left;
+        sources[RIGHT] = right;
+        resolved = true;
+    }
+
+    /**
+     * Forgets the sources so they are looked up again on the next sample.
+     */
+    void invalidate() {
+        sources[BOTTOM] = null;
+        sources[LEFT] = null;
+        sources[RIGHT] = null;
+        resolved = false;
+    }
+
+    @Nullable
+    Object get(int side) {
+        return sources[side];
+    }
+
+    /**
+     * Whether any side holds a kinetic source (which then needs its speed watched).
+     */
+    boolean hasAnySource() {
+        return sources[BOTTOM] != null || sources[LEFT] != null || sources[RIGHT] != null;
+    }
+
+    /**
+     * Reads the speed of every source and returns the highest.
+     * SU is always RPM * 16, so the side with the most RPM also supplies the most SU.
+     */
+    float sampleRPM(KineticBinding kinetics) {
+        float maxRPM = 0.0f;
+        for (Object source : sources) {
+            if (source != null) {
+                maxRPM = Math.max(maxRPM, kinetics.readRPM(source));
+            }
+        }
+        return maxRPM;
+    }
+}
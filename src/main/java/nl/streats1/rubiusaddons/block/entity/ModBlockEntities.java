@@ -5,6 +5,7 @@ import net.neoforged.neoforge.registries.DeferredRegister;
 import net.neoforged.neoforge.registries.DeferredHolder;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.neoforged.fml.ModList;
 import nl.streats1.rubiusaddons.RubiusCobblemonAdditions;
 import nl.streats1.rubiusaddons.block.ModBlocks;
 
@@ -16,11 +17,19 @@ public class ModBlockEntities {
     public static final DeferredHolder<BlockEntityType<?>, BlockEntityType<CreatePoweredHealingMachineBlockEntity>> CREATE_POWERED_HEALING_MACHINE = BLOCK_ENTITIES.register(
         "create_powered_healing_machine",
         () -> BlockEntityType.Builder.of(
-            CreatePoweredHealingMachineBlockEntity::new,
+            healingMachineFactory(),
             ModBlocks.CREATE_POWERED_HEALING_MACHINE.get()
         ).build(null)
     );
 
+    // With Create loaded the machine implements its goggle interface; the subclass is never loaded otherwise
+    private static BlockEntityType.BlockEntitySupplier<CreatePoweredHealingMachineBlockEntity> healingMachineFactory() {
+        if (ModList.get().isLoaded("create")) {
+            return GoggleHealingMachineBlockEntity::new;
+        }
+        return CreatePoweredHealingMachineBlockEntity::new;
+    }
+
     public static void register(IEventBus eventBus) {
         BLOCK_ENTITIES.register(eventBus);
     }
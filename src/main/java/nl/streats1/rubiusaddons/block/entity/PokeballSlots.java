@@ -0,0 +1,98 @@
+package nl.streats1.rubiusaddons.block.entity;
+
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the pokeballs on a healing machine tray: one ball name per party slot,
+ * null for an empty slot.
+ *
+ * The block entity never changes a snapshot, it swaps in a new one (on heal start/end, load and
+ * server sync), so the renderer can read it without locking. Equal ball sets compare equal, which
+ * lets the renderer share baked trays between machines.
+ */
+public final class PokeballSlots {
+
+    public static final PokeballSlots EMPTY = new PokeballSlots(new ResourceLocation[0]);
+
+    private final ResourceLocation[] balls;
+    private final int hash;
+
+    private PokeballSlots(ResourceLocation[] balls) {
+        this.balls = balls;
+        this.hash = Arrays.hashCode(balls);
+    }
+
+    /**
+     * Builds a snapshot from a slot -> ball name map (negative slots are ignored).
+     */
+    public static PokeballSlots of(Map<Integer, ResourceLocation> pokeballNames) {
+        int slotCount = 0;
+        for (int slot : pokeballNames.keySet()) {
+            slotCount = Math.max(slotCount, slot + 1);
+        }
+        if (slotCount == 0) {
+            return EMPTY;
+        }
+        ResourceLocation[] balls = new ResourceLocation[slotCount];
+        for (var entry : pokeballNames.entrySet()) {
+            if (entry.getKey() >= 0) {
+                balls[entry.getKey()] = entry.getValue();
+            }
+        }
+        return new PokeballSlots(balls);
+    }
+
+    /**
+     * Builds a snapshot from a per-slot array (null = empty slot). The array is copied.
+     */
+    public static PokeballSlots of(ResourceLocation[] balls) {
+        int slotCount = balls.length;
+        while (slotCount > 0 && balls[slotCount - 1] == null) {
+            slotCount--;
+        }
+        return slotCount == 0 ? EMPTY : new PokeballSlots(Arrays.copyOf(balls, slotCount));
+    }
+
+    /**
+     * Number of slots covered, i.e. the highest occupied slot + 1.
+     */
+    public int size() {
+        return balls.length;
+    }
+
+    /**
+     * Number of occupied slots.
+     */
+    public int count() {
+        int count = 0;
+        for (ResourceLocation ball : balls) {
+            if (ball != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return balls.length == 0;
+    }
+
+    @Nullable
+    public ResourceLocation get(int slot) {
+        return slot >= 0 && slot < balls.length ? balls[slot] : null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof PokeballSlots slots && hash == slots.hash && Arrays.equals(balls, slots.balls);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,276 @@
+package nl.streats1.rubiusaddons.client.renderer;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.math.Axis;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.color.item.ItemColors;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.entity.ItemRenderer;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.inventory.InventoryMenu;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.client.ClientHooks;
+import nl.streats1.rubiusaddons.block.entity.PokeballSlots;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The pokeballs on a healing machine tray, pre-baked for one (facing, ball set).
+ *
+ * Baking resolves each ball's item model once, applies Cobblemon's tray layout and the GROUND
+ * display transform, and keeps the resulting quads (with tint) grouped by render type. Rendering
+ * then fetches one buffer per render type and pushes the quads straight into it, instead of
+ * running ItemRenderer.renderStatic per ball per frame.
+ *
+ * Balls whose model can't be baked this way (custom item renderers, foil) are kept as stacks
+ * and drawn with renderStatic as before.
+ *
+ * For the mid-range level of detail each ball is also baked as one flat quad showing the
+ * model's particle icon, lying on the tray ({@link #renderFlat}).
+ *
+ * Trays are shared between machines and cleared with {@link PokeballStackCache}, since both depend
+ * on the loaded models. Only used from the render thread.
+ */
+final class BakedPokeballTray {
+
+    // Cobblemon's exact offsets for 2x3 grid layout
+    // Matches: listOf(0.2 to 0.385, -0.2 to 0.385, 0.2 to 0.0, -0.2 to 0.0, 0.2 to -0.385, -0.2 to -0.385)
+    private static final float[][] TRAY_OFFSETS = {
+        {0.2f, 0.385f},   // Slot 0: top-right
+        {-0.2f, 0.385f},  // Slot 1: top-left
+        {0.2f, 0.0f},     // Slot 2: middle-right
+        {-0.2f, 0.0f},    // Slot 3: middle-left
+        {0.2f, -0.385f},  // Slot 4: bottom-right
+        {-0.2f, -0.385f}  // Slot 5: bottom-left
+    };
+
+    // Upper bound on distinct trays kept; ball sets are few, this only guards against unbounded growth
+    private static final int MAX_CACHED_TRAYS = 512;
+
+    private static final Map<TrayKey, BakedPokeballTray> TRAYS = new HashMap<>();
+
+    private record TrayKey(Direction facing, PokeballSlots pokeballs) {
+    }
+
+    // Baked quads of one ball for one render type, with the ball's tray pose
+    private record BakedBall(Matrix4f pose, Matrix3f normal, BakedQuad[] quads, float[] tints) {
+    }
+
+    // A ball drawn the old way, with the pose it is drawn at
+    private record FallbackBall(ItemStack stack, Matrix4f pose, Matrix3f normal) {
+    }
+
+    // Low detail ball: the model's particle icon on a flat quad at the slot's pose
+    private record FlatBall(Matrix4f pose, Matrix3f normal, float u0, float v0, float u1, float v1) {
+    }
+
+    // Half size of a flat ball quad, in tray space (before the GROUND transform)
+    private static final float FLAT_HALF_SIZE = 0.12f;
+    private static final RenderType FLAT_RENDER_TYPE = RenderType.entityCutout(InventoryMenu.BLOCK_ATLAS);
+
+    private final Map<RenderType, List<BakedBall>> batches;
+    private final List<FallbackBall> fallbacks;
+    private final List<FlatBall> flats;
+
+    // Reused to combine the block's pose with each ball's baked pose
+    private final PoseStack scratch = new PoseStack();
+
+    private BakedPokeballTray(Map<RenderType, List<BakedBall>> batches, List<FallbackBall> fallbacks, List<FlatBall> flats) {
+        this.batches = batches;
+        this.fallbacks = fallbacks;
+        this.flats = flats;
+    }
+
+    /**
+     * Gets the baked tray for a facing and ball set, baking it on first use.
+     */
+    static BakedPokeballTray get(Direction facing, PokeballSlots pokeballs,
+                                 ItemRenderer itemRenderer, @Nullable Level level) {
+        // The snapshot is immutable, so it can be used as the key as-is
+        TrayKey key = new TrayKey(facing, pokeballs);
+        BakedPokeballTray tray = TRAYS.get(key);
+        if (tray == null) {
+            if (TRAYS.size() >= MAX_CACHED_TRAYS) {
+                TRAYS.clear();
+            }
+            tray = bake(facing, pokeballs, itemRenderer, level);
+            TRAYS.put(key, tray);
+        }
+        return tray;
+    }
+
+    /**
+     * Drops every baked tray (models may have changed).
+     */
+    static void clearCache() {
+        TRAYS.clear();
+    }
+
+    private static BakedPokeballTray bake(Direction facing, PokeballSlots pokeballs,
+                                          ItemRenderer itemRenderer, @Nullable Level level) {
+        Map<RenderType, List<BakedBall>> batches = new LinkedHashMap<>();
+        List<FallbackBall> fallbacks = new ArrayList<>();
+        List<FlatBall> flats = new ArrayList<>();
+        ItemColors itemColors = Minecraft.getInstance().getItemColors();
+        RandomSource random = RandomSource.create();
+
+        // Same transform chain as the per-ball renderStatic path, relative to the block origin
+        PoseStack poseStack = new PoseStack();
+        poseStack.translate(0.5, 0.5, 0.5);
+        poseStack.mulPose(Axis.YP.rotationDegrees(-facing.toYRot()));
+        poseStack.scale(0.65f, 0.65f, 0.65f);
+
+        int renderedCount = 0;
+        for (int slot = 0; slot < pokeballs.size() && renderedCount < TRAY_OFFSETS.length; slot++) {
+            ResourceLocation pokeballName = pokeballs.get(slot);
+            if (pokeballName == null) {
+                continue;
+            }
+            ItemStack stack = PokeballStackCache.get(pokeballName);
+            if (stack.isEmpty()) {
+                continue;
+            }
+
+            poseStack.pushPose();
+            float[] offset = TRAY_OFFSETS[renderedCount++];
+            poseStack.translate(offset[0], 0.4, offset[1]); // Y offset of 0.4 matches Cobblemon
+
+            BakedModel model = itemRenderer.getModel(stack, level, null, 0);
+
+            TextureAtlasSprite icon = model.getParticleIcon();
+            PoseStack.Pose slotPose = poseStack.last();
+            flats.add(new FlatBall(new Matrix4f(slotPose.pose()), new Matrix3f(slotPose.normal()),
+                icon.getU0(), icon.getV0(), icon.getU1(), icon.getV1()));
+
+            if (model.isCustomRenderer() || stack.hasFoil()) {
+                PoseStack.Pose pose = poseStack.last();
+                fallbacks.add(new FallbackBall(stack, new Matrix4f(pose.pose()), new Matrix3f(pose.normal())));
+                poseStack.popPose();
+                continue;
+            }
+
+            // What ItemRenderer.render does before emitting quads
+            model = ClientHooks.handleCameraTransforms(poseStack, model, ItemDisplayContext.GROUND, false);
+            poseStack.translate(-0.5f, -0.5f, -0.5f);
+            PoseStack.Pose pose = poseStack.last();
+
+            for (BakedModel pass : model.getRenderPasses(stack, true)) {
+                for (RenderType renderType : pass.getRenderTypes(stack, true)) {
+                    List<BakedQuad> quads = new ArrayList<>();
+                    for (Direction side : Direction.values()) {
+                        random.setSeed(42L);
+                        quads.addAll(pass.getQuads(null, side, random));
+                    }
+                    random.setSeed(42L);
+                    quads.addAll(pass.getQuads(null, null, random));
+                    if (quads.isEmpty()) {
+                        continue;
+                    }
+
+                    float[] tints = new float[quads.size() * 3];
+                    for (int i = 0; i < quads.size(); i++) {
+                        BakedQuad quad = quads.get(i);
+                        int color = quad.isTinted() ? itemColors.getColor(stack, quad.getTintIndex()) : -1;
+                        tints[i * 3] = (color >> 16 & 255) / 255.0f;
+                        tints[i * 3 + 1] = (color >> 8 & 255) / 255.0f;
+                        tints[i * 3 + 2] = (color & 255) / 255.0f;
+                    }
+
+                    batches.computeIfAbsent(renderType, type -> new ArrayList<>()).add(new BakedBall(
+                        new Matrix4f(pose.pose()), new Matrix3f(pose.normal()), quads.toArray(new BakedQuad[0]), tints
+                    ));
+                }
+            }
+            poseStack.popPose();
+        }
+
+        return new BakedPokeballTray(batches, fallbacks, flats);
+    }
+
+    /**
+     * Emits the tray at the pose stack's current (block origin) pose.
+     */
+    void render(PoseStack poseStack, MultiBufferSource buffer, int packedLight, int packedOverlay,
+                ItemRenderer itemRenderer, @Nullable Level level) {
+        PoseStack.Pose origin = poseStack.last();
+        PoseStack.Pose target = scratch.last();
+
+        for (var batch : batches.entrySet()) {
+            VertexConsumer consumer = buffer.getBuffer(batch.getKey());
+            for (BakedBall ball : batch.getValue()) {
+                target.pose().set(origin.pose()).mul(ball.pose());
+                target.normal().set(origin.normal()).mul(ball.normal());
+                BakedQuad[] quads = ball.quads();
+                float[] tints = ball.tints();
+                for (int i = 0; i < quads.length; i++) {
+                    consumer.putBulkData(target, quads[i], tints[i * 3], tints[i * 3 + 1], tints[i * 3 + 2], 1.0f, packedLight, packedOverlay);
+                }
+            }
+        }
+
+        for (FallbackBall ball : fallbacks) {
+            poseStack.pushPose();
+            poseStack.last().pose().mul(ball.pose());
+            poseStack.last().normal().mul(ball.normal());
+            itemRenderer.renderStatic(
+                ball.stack(),
+                ItemDisplayContext.GROUND,
+                packedLight,
+                packedOverlay,
+                poseStack,
+                buffer,
+                level,
+                0
+            );
+            poseStack.popPose();
+        }
+    }
+
+    /**
+     * Emits the low detail tray: one flat icon quad per ball, all in a single buffer.
+     */
+    void renderFlat(PoseStack poseStack, MultiBufferSource buffer, int packedLight, int packedOverlay) {
+        if (flats.isEmpty()) {
+            return;
+        }
+        PoseStack.Pose origin = poseStack.last();
+        PoseStack.Pose target = scratch.last();
+        VertexConsumer consumer = buffer.getBuffer(FLAT_RENDER_TYPE);
+
+        for (FlatBall ball : flats) {
+            target.pose().set(origin.pose()).mul(ball.pose());
+            target.normal().set(origin.normal()).mul(ball.normal());
+            flatVertex(consumer, target, -FLAT_HALF_SIZE, -FLAT_HALF_SIZE, ball.u0(), ball.v1(), packedLight, packedOverlay);
+            flatVertex(consumer, target, -FLAT_HALF_SIZE, FLAT_HALF_SIZE, ball.u0(), ball.v0(), packedLight, packedOverlay);
+            flatVertex(consumer, target, FLAT_HALF_SIZE, FLAT_HALF_SIZE, ball.u1(), ball.v0(), packedLight, packedOverlay);
+            flatVertex(consumer, target, FLAT_HALF_SIZE, -FLAT_HALF_SIZE, ball.u1(), ball.v1(), packedLight, packedOverlay);
+        }
+    }
+
+    // Upward facing quad corner, just above the tray surface
+    private static void flatVertex(VertexConsumer consumer, PoseStack.Pose pose, float x, float z, float u, float v,
+                                   int packedLight, int packedOverlay) {
+        consumer.addVertex(pose, x, 0.05f, z)
+            .setColor(-1)
+            .setUv(u, v)
+            .setOverlay(packedOverlay)
+            .setLight(packedLight)
+            .setNormal(pose, 0.0f, 1.0f, 0.0f);
+    }
+}
@@ -0,0 +1,62 @@
+package nl.streats1.rubiusaddons.client.renderer;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import nl.streats1.rubiusaddons.integration.CobblemonIntegration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Client-side palette of pokeball ItemStacks keyed by Cobblemon ball name.
+ * Each name is resolved once through PokeBalls.getPokeBall(name).stack() (see
+ * {@link CobblemonIntegration#pokeBallStack}) and the stack is reused for every frame,
+ * so rendering a tray does no lookup or allocation.
+ *
+ * Cleared on resource reload, datapack/tag sync and logout (see RubiusCobblemonAdditionsModClient),
+ * since those can change which item a ball name maps to. Only used from the render thread.
+ */
+public final class PokeballStackCache {
+
+    private static final Map<ResourceLocation, ItemStack> STACKS = new HashMap<>();
+
+    private PokeballStackCache() {
+    }
+
+    /**
+     * Gets the (shared, do not modify) pokeball stack for a ball name.
+     * @return the stack, or {@link ItemStack#EMPTY} if the ball is unknown
+     */
+    public static ItemStack get(ResourceLocation pokeballName) {
+        ItemStack stack = STACKS.get(pokeballName);
+        if (stack == null) {
+            stack = resolve(pokeballName);
+            STACKS.put(pokeballName, stack);
+        }
+        return stack;
+    }
+
+    /**
+     * Drops every cached stack, and the trays baked from them; they are re-resolved on next use.
+     */
+    public static void clear() {
+        STACKS.clear();
+        BakedPokeballTray.clearCache();
+    }
+
+    /**
+     * Gets an ItemStack from a PokeBall ResourceLocation name.
+     * Matches Cobblemon's approach: PokeBalls.getPokeBall(name).stack()
+     */
+    private static ItemStack resolve(ResourceLocation pokeballName) {
+        ItemStack stack = CobblemonIntegration.pokeBallStack(pokeballName);
+        if (!stack.isEmpty()) {
+            return stack;
+        }
+
+        // Fallback: the item registered under the ball's name
+        var pokeballItem = BuiltInRegistries.ITEM.get(pokeballName);
+        return pokeballItem != null ? new ItemStack(pokeballItem) : ItemStack.EMPTY;
+    }
+}
@@ -0,0 +1,86 @@
+package nl.streats1.rubiusaddons.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import nl.streats1.rubiusaddons.RubiusCobblemonAdditions;
+import nl.streats1.rubiusaddons.diagnostics.HealingMachineMetrics;
+import nl.streats1.rubiusaddons.diagnostics.JfrRecorder;
+
+import java.nio.file.Path;
+
+/**
+ * Operator diagnostics for the healing machines.
+ * Usage:
+ * - /rubius jfr start: starts a JFR recording with the healing machine events
+ * - /rubius jfr stop: stops it and writes it to the rubius-jfr folder in the game directory
+ * - /rubius stats: prints the healing machine counters with their 1, 5 and 15 minute rates
+ */
+public class RubiusCommand {
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("rubius")
+                .requires(source -> source.hasPermission(2)) // Requires OP level 2
+                .then(Commands.literal("jfr")
+                        .then(Commands.literal("start").executes(RubiusCommand::startRecording))
+                        .then(Commands.literal("stop").executes(RubiusCommand::stopRecording))
+                )
+                .then(Commands.literal("stats").executes(RubiusCommand::printStats))
+        );
+    }
+
+    private static int printStats(CommandContext<CommandSourceStack> context) {
+        HealingMachineMetrics.tickIfNecessary();
+        var source = context.getSource();
+        source.sendSuccess(() -> Component.literal("Healing machine stats (total | per minute over 1m / 5m / 15m):"), false);
+        for (HealingMachineMetrics.Counter counter : HealingMachineMetrics.Counter.values()) {
+            long total = HealingMachineMetrics.total(counter);
+            double[] rates = HealingMachineMetrics.ratesPerMinute(counter);
+            String line = "  " + counter.label() + ": " + total
+                + " | " + formatRate(rates[0]) + " / " + formatRate(rates[1]) + " / " + formatRate(rates[2]);
+            source.sendSuccess(() -> Component.literal(line), false);
+        }
+        return 1;
+    }
+
+    // One decimal is plenty for per-minute rates
+    private static String formatRate(double ratePerMinute) {
+        return String.valueOf(Math.round(ratePerMinute * 10.0) / 10.0);
+    }
+
+    private static int startRecording(CommandContext<CommandSourceStack> context) {
+        if (JfrRecorder.isRecording()) {
+            context.getSource().sendFailure(Component.literal("A JFR recording is already running, stop it first"));
+            return 0;
+        }
+
+        try {
+            Path file = JfrRecorder.start();
+            context.getSource().sendSuccess(() -> Component.literal("Started JFR recording, it will be written to " + file), true);
+            return 1;
+        } catch (Exception e) {
+            RubiusCobblemonAdditions.LOGGER.error("Failed to start JFR recording", e);
+            context.getSource().sendFailure(Component.literal("Failed to start JFR recording: " + e.getMessage()));
+            return 0;
+        }
+    }
+
+    private static int stopRecording(CommandContext<CommandSourceStack> context) {
+        if (!JfrRecorder.isRecording()) {
+            context.getSource().sendFailure(Component.literal("No JFR recording is running"));
+            return 0;
+        }
+
+        try {
+            Path file = JfrRecorder.stop();
+            context.getSource().sendSuccess(() -> Component.literal("Stopped JFR recording, written to " + file), true);
+            return 1;
+        } catch (Exception e) {
+            RubiusCobblemonAdditions.LOGGER.error("Failed to stop JFR recording", e);
+            context.getSource().sendFailure(Component.literal("Failed to stop JFR recording: " + e.getMessage()));
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package nl.streats1.rubiusaddons.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import net.minecraft.core.BlockPos;
+
+/**
+ * JFR events for the healing machine lifecycle, recorded with {@code /rubius jfr start|stop}
+ * (see {@link JfrRecorder}) or any other JFR recording.
+ *
+ * Usage follows the usual JFR pattern: create, begin(), do the work, then fill in the fields and
+ * commit() only if shouldCommit(). The event is only created when its type below is enabled
+ * (a recording has it on), so machines allocate nothing for events while no recording is running.
+ */
+public final class HealingMachineEvents {
+
+    private static final String CATEGORY = "Rubius Cobblemon Additions";
+
+    public static final EventType INTERACTION = EventType.getEventType(Interaction.class);
+    public static final EventType HEAL_START = EventType.getEventType(HealStart.class);
+    public static final EventType HEAL_COMPLETE = EventType.getEventType(HealComplete.class);
+    public static final EventType KINETIC_SAMPLE = EventType.getEventType(KineticSample.class);
+    public static final EventType BLOCK_STATE_COMMIT = EventType.getEventType(BlockStateCommit.class);
+
+    private HealingMachineEvents() {
+    }
+
+    /**
+     * Base for all healing machine events: the machine's position.
+     */
+    @Category({CATEGORY, "Healing Machine"})
+    public abstract static class MachineEvent extends Event {
+        @Label("X")
+        int x;
+        @Label("Y")
+        int y;
+        @Label("Z")
+        int z;
+
+        public void at(BlockPos pos) {
+            x = pos.getX();
+            y = pos.getY();
+            z = pos.getZ();
+        }
+    }
+
+    @Name("rubius.HealingMachineInteraction")
+    @Label("Healing Machine Interaction")
+    @Description("A player right-clicked a healing machine")
+    public static final class Interaction extends MachineEvent {
+        @Label("Player")
+        public String player;
+        @Label("Result")
+        public String result;
+    }
+
+    @Name("rubius.HealStart")
+    @Label("Heal Start")
+    @Description("A healing machine started healing a party")
+    public static final class HealStart extends MachineEvent {
+        @Label("Player")
+        public String player;
+        @Label("Balls")
+        @Description("Pokeballs put on the tray")
+        public int balls;
+    }
+
+    @Name("rubius.HealComplete")
+    @Label("Heal Complete")
+    @Description("A healing machine healed a party and started recharging")
+    public static final class HealComplete extends MachineEvent {
+        @Label("Player")
+        public String player;
+        @Label("Recharge Seconds")
+        public int rechargeSeconds;
+    }
+
+    @Name("rubius.KineticSample")
+    @Label("Kinetic Sample")
+    @Description("A healing machine sampled the rotation speed of its kinetic inputs")
+    public static final class KineticSample extends MachineEvent {
+        @Label("RPM")
+        public float rpm;
+        @Label("SU")
+        public float su;
+        @Label("Changed")
+        @Description("Whether SU changed enough to be synced to clients")
+        public boolean changed;
+    }
+
+    @Name("rubius.BlockStateCommit")
+    @Label("Block State Commit")
+    @Description("A healing machine wrote a changed block state (healing flag or power colour)")
+    public static final class BlockStateCommit extends MachineEvent {
+        @Label("Healing")
+        public boolean healing;
+        @Label("Power State")
+        public int powerState;
+    }
+}
@@ -0,0 +1,113 @@
+package nl.streats1.rubiusaddons.diagnostics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process counters for healing machine throughput, shown by {@code /rubius stats}.
+ *
+ * Counting is a lock-free {@link LongAdder} increment. Every {@link #TICK_INTERVAL_SECONDS} seconds
+ * (checked from the server tick) the counts since the last interval are folded into 1, 5 and
+ * 15 minute exponentially weighted moving averages, the same way Unix load averages work.
+ */
+public final class HealingMachineMetrics {
+
+    /**
+     * What is counted.
+     */
+    public enum Counter {
+        INTERACTIONS("Interactions"),
+        REJECTED_IN_BATTLE("Rejected: in battle"),
+        REJECTED_RECHARGING("Rejected: recharging"),
+        REJECTED_IN_USE("Rejected: in use"),
+        REJECTED_NOTHING_TO_HEAL("Rejected: nothing to heal"),
+        HEALS_COMPLETED("Heals completed"),
+        BLOCK_STATE_COMMITS("Block state commits"),
+        SYNC_PACKETS("Sync packets sent"),
+        KINETIC_SAMPLES("Kinetic samples");
+
+        private final String label;
+
+        Counter(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    public static final int TICK_INTERVAL_SECONDS = 5;
+    private static final long TICK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(TICK_INTERVAL_SECONDS);
+    private static final int[] WINDOW_MINUTES = {1, 5, 15};
+
+    private static final Counter[] COUNTERS = Counter.values();
+    // Everything counted since startup
+    private static final LongAdder[] TOTALS = new LongAdder[COUNTERS.length];
+    // Counted since the last interval, not yet folded into the averages
+    private static final LongAdder[] PENDING = new LongAdder[COUNTERS.length];
+    // Per counter and window: events per second, guarded by the class lock
+    private static final double[][] RATES = new double[COUNTERS.length][WINDOW_MINUTES.length];
+    private static final double[] ALPHAS = new double[WINDOW_MINUTES.length];
+
+    private static long lastTickNanos = System.nanoTime();
+    private static boolean ratesInitialized = false;
+
+    static {
+        for (int i = 0; i < COUNTERS.length; i++) {
+            TOTALS[i] = new LongAdder();
+            PENDING[i] = new LongAdder();
+        }
+        for (int w = 0; w < WINDOW_MINUTES.length; w++) {
+            ALPHAS[w] = 1.0 - Math.exp(-TICK_INTERVAL_SECONDS / (60.0 * WINDOW_MINUTES[w]));
+        }
+    }
+
+    private HealingMachineMetrics() {
+    }
+
+    public static void increment(Counter counter) {
+        TOTALS[counter.ordinal()].increment();
+        PENDING[counter.ordinal()].increment();
+    }
+
+    public static long total(Counter counter) {
+        return TOTALS[counter.ordinal()].sum();
+    }
+
+    /**
+     * Folds in every full interval that has passed. Cheap when none has (one clock read).
+     */
+    public static synchronized void tickIfNecessary() {
+        long now = System.nanoTime();
+        long intervals = (now - lastTickNanos) / TICK_INTERVAL_NANOS;
+        if (intervals <= 0) {
+            return;
+        }
+        lastTickNanos += intervals * TICK_INTERVAL_NANOS;
+
+        for (int i = 0; i < COUNTERS.length; i++) {
+            // Everything pending is attributed to the first interval, the rest were empty
+            double rate = (double) PENDING[i].sumThenReset() / TICK_INTERVAL_SECONDS;
+            for (int w = 0; w < WINDOW_MINUTES.length; w++) {
+                double current = ratesInitialized ? RATES[i][w] : rate;
+                current += ALPHAS[w] * (rate - current);
+                // Intervals without a tick (server stalled) decay the average as zero counts
+                current *= Math.pow(1.0 - ALPHAS[w], intervals - 1);
+                RATES[i][w] = current;
+            }
+        }
+        ratesInitialized = true;
+    }
+
+    /**
+     * Gets the 1, 5 and 15 minute rates of a counter, in events per minute.
+     */
+    public static synchronized double[] ratesPerMinute(Counter counter) {
+        double[] rates = new double[WINDOW_MINUTES.length];
+        for (int w = 0; w < WINDOW_MINUTES.length; w++) {
+            rates[w] = RATES[counter.ordinal()][w] * 60.0;
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,89 @@
+package nl.streats1.rubiusaddons.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import net.neoforged.fml.loading.FMLPaths;
+import nl.streats1.rubiusaddons.RubiusCobblemonAdditions;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Starts and stops a single JFR recording on a live server (driven by {@code /rubius jfr}).
+ * Uses the JDK's "default" settings plus the {@link HealingMachineEvents}, and writes the
+ * recording to {@code <game dir>/rubius-jfr/} when it is stopped.
+ */
+public final class JfrRecorder {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Nullable
+    private static Recording recording;
+    @Nullable
+    private static Path destination;
+
+    private JfrRecorder() {
+    }
+
+    public static synchronized boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Starts a recording.
+     * @return the file it will be written to when stopped
+     * @throws IllegalStateException if a recording is already running
+     */
+    public static synchronized Path start() throws IOException, ParseException {
+        if (recording != null) {
+            throw new IllegalStateException("A recording is already running (" + destination + ")");
+        }
+
+        Path directory = FMLPaths.GAMEDIR.get().resolve("rubius-jfr");
+        Files.createDirectories(directory);
+        Path file = directory.resolve("healing-machine-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+
+        Recording newRecording = new Recording(Configuration.getConfiguration("default"));
+        newRecording.setName("rubius_cobblemon_additions");
+        newRecording.enable(HealingMachineEvents.Interaction.class);
+        newRecording.enable(HealingMachineEvents.HealStart.class);
+        newRecording.enable(HealingMachineEvents.HealComplete.class);
+        newRecording.enable(HealingMachineEvents.KineticSample.class);
+        newRecording.enable(HealingMachineEvents.BlockStateCommit.class);
+        newRecording.setDestination(file);
+        newRecording.start();
+
+        recording = newRecording;
+        destination = file;
+        RubiusCobblemonAdditions.LOGGER.info("Started JFR recording to {}", file);
+        return file;
+    }
+
+    /**
+     * Stops the running recording and writes it to its file.
+     * @return the file written
+     * @throws IllegalStateException if no recording is running
+     */
+    public static synchronized Path stop() {
+        if (recording == null) {
+            throw new IllegalStateException("No recording is running");
+        }
+
+        Recording running = recording;
+        Path file = destination;
+        recording = null;
+        destination = null;
+        try {
+            running.stop(); // Writes to the destination
+        } finally {
+            running.close();
+        }
+        RubiusCobblemonAdditions.LOGGER.info("Stopped JFR recording, written to {}", file);
+        return file;
+    }
+}
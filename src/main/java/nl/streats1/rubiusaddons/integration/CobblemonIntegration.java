@@ -1,190 +1,290 @@
 package nl.streats1.rubiusaddons.integration;
 
+import com.cobblemon.mod.common.Cobblemon;
+import com.cobblemon.mod.common.api.pokeball.PokeBalls;
+import com.cobblemon.mod.common.api.storage.PokemonStoreManager;
+import com.cobblemon.mod.common.api.storage.party.PartyStore;
+import com.cobblemon.mod.common.battles.BattleRegistry;
+import com.cobblemon.mod.common.pokeball.PokeBall;
+import com.cobblemon.mod.common.pokemon.Pokemon;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.fml.ModList;
 import nl.streats1.rubiusaddons.RubiusCobblemonAdditions;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Integration helper for Cobblemon API access.
- * Provides a cleaner API wrapper around Cobblemon's reflection-based access.
  * 
- * With the Cobblemon MDK/Maven dependency, you can also use direct imports:
+ * Cobblemon's services (storage, battle registry, pokeball registry) and its healing machine
+ * recharge time are resolved once by {@link #bootstrap()} during mod setup and exposed through
+ * typed accessors. Nothing scans or reflects over Cobblemon at runtime; callers check
+ * {@link #isAvailable()} and use the cached handles.
+ * 
+ * Uses the Cobblemon MDK/Maven dependency for direct imports:
  *   import com.cobblemon.mod.common.Cobblemon;
  *   import com.cobblemon.mod.common.api.storage.PokemonStoreManager;
  *   import com.cobblemon.mod.common.api.storage.party.PartyStore;
- * 
- * This class provides a reflection-based wrapper that works regardless of
- * whether direct imports are available.
  */
 public class CobblemonIntegration {
     
-    private static final Map<String, Object> CACHE = new ConcurrentHashMap<>();
+    public static final ResourceLocation DEFAULT_POKEBALL = ResourceLocation.parse("cobblemon:poke_ball");
+    
+    // Healing machine recharge time used when Cobblemon's can't be read: 5 minutes, a common default
+    public static final int DEFAULT_RECHARGE_SECONDS = 300;
+    
+    private static volatile boolean bootstrapped = false;
+    private static volatile boolean available = false;
+    // How the services were found (or why not), for logs and diagnostics
+    private static volatile String resolution = "not resolved";
+    
+    @Nullable
+    private static volatile PokemonStoreManager storage;
+    @Nullable
+    private static volatile BattleRegistry battleRegistry;
+    // Whether Cobblemon's PokeBalls registry linked (also used client side, for tray rendering)
+    private static volatile boolean pokeBallsLinked = false;
+    private static volatile int rechargeSeconds = DEFAULT_RECHARGE_SECONDS;
     
     /**
-     * Gets the Cobblemon API instance.
-     * @return Cobblemon API instance or null if not available
+     * Resolves Cobblemon's services once. Called from common setup; later calls are no-ops.
+     * Cobblemon is an optional dependency, so its classes are only touched after the mod check.
      */
-    @Nullable
-    public static Object getCobblemonInstance() {
-        String cacheKey = "cobblemon_instance";
-        Object cached = CACHE.get(cacheKey);
-        if (cached != null) {
-            return cached;
+    public static synchronized void bootstrap() {
+        if (bootstrapped) {
+            return;
+        }
+        bootstrapped = true;
+        
+        if (!ModList.get().isLoaded("cobblemon")) {
+            resolution = "Cobblemon not loaded";
+            RubiusCobblemonAdditions.LOGGER.info("Cobblemon not loaded, healing integration disabled");
+            return;
         }
         
         try {
-            Class<?> cobblemonClass = Class.forName("com.cobblemon.mod.common.Cobblemon");
-            var instanceField = cobblemonClass.getField("INSTANCE");
-            Object instance = instanceField.get(null);
-            if (instance != null) {
-                CACHE.put(cacheKey, instance);
-                return instance;
-            }
-        } catch (Exception e) {
+            Cobblemon cobblemon = Cobblemon.INSTANCE;
+            storage = cobblemon.getStorage();
+            battleRegistry = cobblemon.getBattleRegistry();
+            available = storage != null;
+            pokeBallsLinked = PokeBalls.INSTANCE != null;
+            resolution = available
+                ? "Cobblemon.INSTANCE#getStorage, Cobblemon.INSTANCE#getBattleRegistry"
+                : "Cobblemon.INSTANCE#getStorage returned null";
+        } catch (LinkageError | RuntimeException e) {
+            // Cobblemon's API changed in a way the direct imports can't link against
+            available = false;
+            resolution = "failed: " + e;
         }
         
-        return null;
+        rechargeSeconds = discoverRechargeSeconds();
+        
+        if (available) {
+            RubiusCobblemonAdditions.LOGGER.info("Resolved Cobblemon services via {}", resolution);
+        } else {
+            RubiusCobblemonAdditions.LOGGER.warn("Cobblemon is loaded but its services could not be resolved ({}), healing machines are disabled", resolution);
+        }
     }
     
     /**
-     * Gets the PokemonStoreManager from Cobblemon API.
-     * @param cobblemonInstance The Cobblemon instance
-     * @return PokemonStoreManager or null if not available
+     * Whether Cobblemon is loaded and its services were resolved.
      */
-    @Nullable
-    public static Object getStorageManager(Object cobblemonInstance) {
-        if (cobblemonInstance == null) {
-            return null;
-        }
-        
-        String cacheKey = "storage_manager";
-        Object cached = CACHE.get(cacheKey);
-        if (cached != null) {
-            return cached;
-        }
-        
-        try {
-            var getStorageMethod = cobblemonInstance.getClass().getMethod("getStorage");
-            Object storageManager = getStorageMethod.invoke(cobblemonInstance);
-            if (storageManager != null) {
-                CACHE.put(cacheKey, storageManager);
-                return storageManager;
-            }
-        } catch (Exception e) {
+    public static boolean isAvailable() {
+        return available;
+    }
+    
+    /**
+     * Describes how the services were resolved.
+     */
+    public static String describe() {
+        return resolution;
+    }
+    
+    /**
+     * Cobblemon's healing machine recharge time in seconds, as discovered during {@link #bootstrap()}.
+     * @return the recharge time, or {@link #DEFAULT_RECHARGE_SECONDS} if it couldn't be read
+     */
+    public static int baseRechargeSeconds() {
+        return rechargeSeconds;
+    }
+    
+    /**
+     * Gets the stack for a pokeball name, as PokeBalls.getPokeBall(name).stack() (matches Cobblemon).
+     * @return the stack, or {@link ItemStack#EMPTY} if Cobblemon is missing or the ball is unknown
+     */
+    public static ItemStack pokeBallStack(ResourceLocation pokeballName) {
+        if (!pokeBallsLinked) {
+            return ItemStack.EMPTY;
         }
-        
-        return null;
+        PokeBall pokeBall = PokeBalls.INSTANCE.getPokeBall(pokeballName);
+        return pokeBall != null ? pokeBall.stack(1) : ItemStack.EMPTY;
     }
     
     /**
-     * Gets the party store for a server player.
-     * @param storageManager The PokemonStoreManager instance
-     * @param player The server player
-     * @return PartyStore or null if not available
+     * Gets Cobblemon's PokemonStoreManager.
+     * @return the storage manager, or null if {@link #isAvailable()} is false
      */
     @Nullable
-    public static Object getPartyStore(Object storageManager, ServerPlayer player) {
-        if (storageManager == null || player == null) {
-            return null;
-        }
-        
-        try {
-            var getPartyMethod = storageManager.getClass().getMethod("getParty", ServerPlayer.class);
-            return getPartyMethod.invoke(storageManager, player);
-        } catch (Exception e) {
-        }
-        
-        return null;
+    public static PokemonStoreManager storage() {
+        return storage;
+    }
+    
+    /**
+     * Gets Cobblemon's BattleRegistry.
+     * @return the battle registry, or null if Cobblemon is unavailable
+     */
+    @Nullable
+    public static BattleRegistry battles() {
+        return battleRegistry;
     }
     
     /**
-     * Gets the party store for a client player (Player interface).
-     * Tries multiple method signatures for compatibility.
-     * @param storageManager The PokemonStoreManager instance
-     * @param player The player (can be LocalPlayer or ServerPlayer)
-     * @return PartyStore or null if not available
+     * Gets a server player's party.
+     * @return the party, or null if Cobblemon is unavailable
      */
     @Nullable
-    public static Object getPartyStoreForClient(Object storageManager, Player player) {
-        if (storageManager == null || player == null) {
+    public static PartyStore party(ServerPlayer player) {
+        PokemonStoreManager manager = storage;
+        if (manager == null || player == null) {
             return null;
         }
-        
-        // Try Player interface first (works for both LocalPlayer and ServerPlayer)
-        try {
-            var getPartyMethod = storageManager.getClass().getMethod("getParty", Player.class);
-            Object partyStore = getPartyMethod.invoke(storageManager, player);
-            if (partyStore != null) {
-                return partyStore;
-            }
-        } catch (NoSuchMethodException ignored) {
-            // Try UUID-based method
-            try {
-                var getPartyByUUIDMethod = storageManager.getClass().getMethod("getParty", UUID.class);
-                Object partyStore = getPartyByUUIDMethod.invoke(storageManager, player.getUUID());
-                if (partyStore != null) {
-                    return partyStore;
-                }
-            } catch (NoSuchMethodException ignored2) {
-                // Try LocalPlayer if player is LocalPlayer
-                if (player.getClass().getSimpleName().equals("LocalPlayer")) {
-                    try {
-                        var getPartyMethod = storageManager.getClass().getMethod("getParty", player.getClass());
-                        return getPartyMethod.invoke(storageManager, player);
-                    } catch (Exception ignored3) {
-                        // All methods failed
-                    }
-                }
-            } catch (Exception e) {
+        return manager.getParty(player);
+    }
+    
+    /**
+     * Checks in a single pass whether any Pokemon in the player's party is below max HP.
+     */
+    public static boolean needsHealing(ServerPlayer player) {
+        PartyStore party = party(player);
+        return party != null && needsHealing(party);
+    }
+    
+    /**
+     * Checks in a single pass whether any Pokemon in the party is below max HP.
+     * Iterates the store itself, so parties of any size (addons, config) are covered.
+     */
+    public static boolean needsHealing(PartyStore party) {
+        for (Pokemon pokemon : party) {
+            if (pokemon.getCurrentHealth() < pokemon.getMaxHealth()) {
+                return true;
             }
-        } catch (Exception e) {
         }
-        
-        return null;
+        return false;
     }
     
     /**
-     * Heals all Pokemon in a party store.
-     * @param partyStore The PartyStore instance
-     * @return true if healing was successful
+     * Gets the caught ball of every Pokemon in the player's party, keyed by party slot.
+     * Matches Cobblemon's own healing machine, which stores pokemon.caughtBall.name.
      */
-    public static boolean healParty(Object partyStore) {
-        if (partyStore == null) {
-            return false;
+    public static Map<Integer, ResourceLocation> caughtBalls(ServerPlayer player) {
+        Map<Integer, ResourceLocation> balls = new HashMap<>();
+        PartyStore party = party(player);
+        if (party == null) {
+            return balls;
         }
         
-        try {
-            var healMethod = partyStore.getClass().getMethod("heal");
-            healMethod.invoke(partyStore);
-            return true;
-        } catch (Exception e) {
+        // Cobblemon's own slot list (empty slots are null), whatever size the party has
+        List<Pokemon> slots = party.toGappyList();
+        for (int slot = 0; slot < slots.size(); slot++) {
+            Pokemon pokemon = slots.get(slot);
+            if (pokemon != null) {
+                balls.put(slot, caughtBall(pokemon));
+            }
         }
-        
-        return false;
+        return balls;
+    }
+    
+    /**
+     * Gets the name of the ball a Pokemon was caught in, or the default poke ball.
+     */
+    public static ResourceLocation caughtBall(Pokemon pokemon) {
+        PokeBall ball = pokemon.getCaughtBall();
+        return ball != null ? ball.getName() : DEFAULT_POKEBALL;
     }
     
     /**
-     * Gets the Pokemon list from a party store.
-     * @param partyStore The PartyStore instance
-     * @return List of Pokemon or null if not available
+     * Gets the Pokemon in a party slot.
+     * @return the Pokemon, or null if the slot is empty or Cobblemon is unavailable
      */
     @Nullable
-    public static java.util.List<?> getPokemonList(Object partyStore) {
-        if (partyStore == null) {
-            return null;
+    public static Pokemon pokemonInSlot(ServerPlayer player, int slot) {
+        PartyStore party = party(player);
+        return party != null ? party.get(slot) : null;
+    }
+    
+    /**
+     * Heals every Pokemon in the player's party.
+     * @return true if the party was found and healed
+     */
+    public static boolean healParty(ServerPlayer player) {
+        PartyStore party = party(player);
+        if (party == null) {
+            return false;
         }
-        
+        party.heal();
+        return true;
+    }
+    
+    /**
+     * Reads the recharge time from Cobblemon's healing machine block entity (a static field or
+     * method, in ticks or seconds). Only called once, from {@link #bootstrap()}.
+     */
+    private static int discoverRechargeSeconds() {
         try {
-            var toGappyListMethod = partyStore.getClass().getMethod("toGappyList");
-            return (java.util.List<?>) toGappyListMethod.invoke(partyStore);
+            // Try to find Cobblemon's healing machine block entity class
+            Class<?> healingMachineClass = Class.forName("com.cobblemon.mod.common.block.entity.HealingMachineBlockEntity");
+            
+            // Try to get a static field or method that contains the recharge time
+            // Common field names: RECHARGE_TIME, COOLDOWN_TIME, RECHARGE_TICKS, etc.
+            String[] possibleFieldNames = {"RECHARGE_TIME", "COOLDOWN_TIME", "RECHARGE_TICKS", "COOLDOWN_TICKS", "RECHARGE_TIME_SECONDS"};
+            
+            for (String fieldName : possibleFieldNames) {
+                try {
+                    var field = healingMachineClass.getField(fieldName);
+                    Object value = field.get(null); // Static field
+                    if (value instanceof Number) {
+                        int ticks = ((Number) value).intValue();
+                        // Convert ticks to seconds if needed (assume it's in ticks if > 1000, seconds if < 1000)
+                        if (ticks > 1000) {
+                            return ticks / 20; // Convert ticks to seconds
+                        } else {
+                            return ticks; // Already in seconds
+                        }
+                    }
+                } catch (NoSuchFieldException | IllegalAccessException e) {
+                    // Try next field name
+                }
+            }
+            
+            // Try to find a method that returns recharge time
+            String[] possibleMethodNames = {"getRechargeTime", "getCooldownTime", "getRechargeTicks", "getCooldownTicks"};
+            for (String methodName : possibleMethodNames) {
+                try {
+                    var method = healingMachineClass.getMethod(methodName);
+                    Object result = method.invoke(null); // Static method
+                    if (result instanceof Number) {
+                        int ticks = ((Number) result).intValue();
+                        if (ticks > 1000) {
+                            return ticks / 20; // Convert ticks to seconds
+                        } else {
+                            return ticks; // Already in seconds
+                        }
+                    }
+                } catch (NoSuchMethodException | IllegalAccessException | java.lang.reflect.InvocationTargetException e) {
+                    // Try next method name
+                }
+            }
+        } catch (ClassNotFoundException e) {
+            // Cobblemon class not found, use default
         } catch (Exception e) {
+            // Any other error, use default
         }
         
-        return null;
+        return DEFAULT_RECHARGE_SECONDS;
     }
 }
@@ -0,0 +1,70 @@
+package nl.streats1.rubiusaddons.integration;
+
+import net.neoforged.fml.ModList;
+import nl.streats1.rubiusaddons.RubiusCobblemonAdditions;
+
+/**
+ * One-time warm-up of all optional mod compat: Create's kinetic binding and block classification,
+ * Cobblemon's services, recharge time and pokeball registry, and the healing machine block entity
+ * classes (including the Create goggle subclass).
+ *
+ * Runs on the main thread from common setup, with a fallback on server start, and logs how long
+ * each part took. Afterwards chunk loading and ticking never pay for class init or reflection.
+ */
+public final class CompatWarmup {
+
+    private static final String BLOCK_ENTITY_CLASS = "nl.streats1.rubiusaddons.block.entity.CreatePoweredHealingMachineBlockEntity";
+    private static final String GOGGLE_BLOCK_ENTITY_CLASS = "nl.streats1.rubiusaddons.block.entity.GoggleHealingMachineBlockEntity";
+
+    private static boolean done = false;
+
+    private CompatWarmup() {
+    }
+
+    /**
+     * Runs the warm-up once; later calls are no-ops.
+     * @param phase where it was triggered from, for the log
+     */
+    public static synchronized void run(String phase) {
+        if (done) {
+            return;
+        }
+        done = true;
+
+        long start = System.nanoTime();
+        CreateIntegration.bootstrap();
+        long createDone = System.nanoTime();
+        CobblemonIntegration.bootstrap();
+        long cobblemonDone = System.nanoTime();
+        String blockEntities = initBlockEntityClasses();
+        long end = System.nanoTime();
+
+        RubiusCobblemonAdditions.LOGGER.info(
+            "Compat warm-up ({}) took {} ms: Create {} ms [{}], Cobblemon {} ms [{}, recharge {} s], block entities {} ms [{}]",
+            phase, millis(end - start),
+            millis(createDone - start), CreateIntegration.kinetics().describe(),
+            millis(cobblemonDone - createDone), CobblemonIntegration.describe(), CobblemonIntegration.baseRechargeSeconds(),
+            millis(end - cobblemonDone), blockEntities
+        );
+    }
+
+    // Runs the static initialisers now rather than on whichever thread first loads a machine
+    private static String initBlockEntityClasses() {
+        ClassLoader loader = CompatWarmup.class.getClassLoader();
+        try {
+            Class.forName(BLOCK_ENTITY_CLASS, true, loader);
+            if (ModList.get().isLoaded("create")) {
+                Class.forName(GOGGLE_BLOCK_ENTITY_CLASS, true, loader);
+                return "with Create goggle information";
+            }
+            return "without goggle information";
+        } catch (ClassNotFoundException | LinkageError e) {
+            return "failed: " + e;
+        }
+    }
+
+    // Milliseconds with two decimals
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
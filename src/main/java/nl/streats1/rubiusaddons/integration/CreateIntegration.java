@@ -0,0 +1,103 @@
+package nl.streats1.rubiusaddons.integration;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.EntityBlock;
+import net.neoforged.fml.ModList;
+import nl.streats1.rubiusaddons.RubiusCobblemonAdditions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Integration helper for Create's kinetic API.
+ * Links KineticBlockEntity#getSpeed into a cached {@link KineticBinding} once during mod setup,
+ * so the healing machine tick reads rotation speed without any reflective lookups.
+ *
+ * Also classifies every block type once (see {@link KineticSourceKind}) so the tick never
+ * has to inspect block names to decide whether a neighbour can power the machine.
+ *
+ * Create is an optional dependency, so nothing here references Create classes directly.
+ */
+public class CreateIntegration {
+
+    private static final String KINETIC_BLOCK_ENTITY_CLASS = "com.simibubi.create.content.kinetics.base.KineticBlockEntity";
+
+    private static volatile KineticBinding kinetics = KineticBinding.UNAVAILABLE;
+    private static volatile boolean bootstrapped = false;
+    
+    // Per block type classification, filled for the whole (frozen) block registry during bootstrap
+    private static final Map<Block, KineticSourceKind> BLOCK_KINDS = new ConcurrentHashMap<>();
+    
+    /**
+     * How a neighbouring block type is treated as a kinetic source for the healing machine.
+     */
+    public enum KineticSourceKind {
+        /** May power the machine if its block entity is a kinetic block entity (shafts, belts, gearboxes, ...) */
+        CANDIDATE,
+        /** Cogwheels are never accepted as a power source */
+        REJECT_COG,
+        /** Has no block entity, or Create is unavailable */
+        NOT_KINETIC
+    }
+
+    /**
+     * Resolves the Create bindings. Called once from common setup; later calls are no-ops.
+     */
+    public static synchronized void bootstrap() {
+        if (bootstrapped) {
+            return;
+        }
+        bootstrapped = true;
+
+        if (!ModList.get().isLoaded("create")) {
+            RubiusCobblemonAdditions.LOGGER.info("Create not loaded, kinetic integration disabled");
+            return;
+        }
+
+        try {
+            Class<?> kineticClass = Class.forName(KINETIC_BLOCK_ENTITY_CLASS);
+            kinetics = KineticBinding.resolve(kineticClass);
+        } catch (ClassNotFoundException | LinkageError e) {
+            kinetics = KineticBinding.UNAVAILABLE;
+        }
+
+        if (kinetics.isAvailable()) {
+            // Registries are frozen by common setup, so classify every block type up front
+            for (Block block : BuiltInRegistries.BLOCK) {
+                BLOCK_KINDS.put(block, computeKind(block));
+            }
+            RubiusCobblemonAdditions.LOGGER.info("Bound Create kinetic API via {} ({} block types classified)", kinetics.describe(), BLOCK_KINDS.size());
+        } else {
+            RubiusCobblemonAdditions.LOGGER.warn("Create is loaded but its kinetic API could not be bound, healing machines will run unpowered");
+        }
+    }
+
+    /**
+     * Gets the resolved kinetic binding.
+     * @return the binding, or {@link KineticBinding#UNAVAILABLE} if Create is missing or incompatible
+     */
+    public static KineticBinding kinetics() {
+        return kinetics;
+    }
+    
+    /**
+     * Classifies a block type as a kinetic source candidate.
+     * Answered from the cache built at bootstrap; unknown blocks are classified once on first sight.
+     */
+    public static KineticSourceKind classify(Block block) {
+        KineticSourceKind kind = BLOCK_KINDS.get(block);
+        return kind != null ? kind : BLOCK_KINDS.computeIfAbsent(block, CreateIntegration::computeKind);
+    }
+    
+    private static KineticSourceKind computeKind(Block block) {
+        if (!kinetics.isAvailable() || !(block instanceof EntityBlock)) {
+            return KineticSourceKind.NOT_KINETIC;
+        }
+        // Exclude cogs: do not accept power from cogwheels
+        if (block.getDescriptionId().contains("cog")) {
+            return KineticSourceKind.REJECT_COG;
+        }
+        return KineticSourceKind.CANDIDATE;
+    }
+}
@@ -0,0 +1,125 @@
+package nl.streats1.rubiusaddons.integration;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * A resolved link to Create's kinetic block entity API.
+ * Holds the kinetic block entity class and a MethodHandle for reading its speed,
+ * both looked up once so callers never touch reflection on the tick path.
+ *
+ * Use {@link #UNAVAILABLE} when Create is missing or its API has changed.
+ */
+public final class KineticBinding {
+
+    // SU per RPM used to convert between speed and stress capacity (matches the healing machine's estimate)
+    public static final float SU_PER_RPM = 16.0f;
+
+    /**
+     * Binding used when Create is not loaded or none of the expected methods exist.
+     * Every query on it returns "not kinetic" / 0 RPM.
+     */
+    public static final KineticBinding UNAVAILABLE = new KineticBinding(null, null, false, "unavailable");
+
+    // (Object)float views of the target methods, so invokeExact never boxes
+    private static final MethodType READER_TYPE = MethodType.methodType(float.class, Object.class);
+
+    @Nullable
+    private final Class<?> kineticClass;
+    @Nullable
+    private final MethodHandle reader;
+    private final boolean readsCapacity;
+    private final String description;
+
+    private KineticBinding(@Nullable Class<?> kineticClass, @Nullable MethodHandle reader, boolean readsCapacity, String description) {
+        this.kineticClass = kineticClass;
+        this.reader = reader;
+        this.readsCapacity = readsCapacity;
+        this.description = description;
+    }
+
+    /**
+     * Binds against the given kinetic block entity class.
+     * Prefers getSpeed() and falls back to getCapacity() like the original reflective lookup did.
+     *
+     * @param kineticClass Create's KineticBlockEntity (or a stand-in with the same methods)
+     * @return the binding, or {@link #UNAVAILABLE} if neither method can be linked
+     */
+    public static KineticBinding resolve(Class<?> kineticClass) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+        MethodHandle speed = findFloatGetter(lookup, kineticClass, "getSpeed");
+        if (speed != null) {
+            return new KineticBinding(kineticClass, speed, false, kineticClass.getName() + "#getSpeed");
+        }
+
+        MethodHandle capacity = findFloatGetter(lookup, kineticClass, "getCapacity");
+        if (capacity != null) {
+            return new KineticBinding(kineticClass, capacity, true, kineticClass.getName() + "#getCapacity");
+        }
+
+        return UNAVAILABLE;
+    }
+
+    @Nullable
+    private static MethodHandle findFloatGetter(MethodHandles.Lookup lookup, Class<?> owner, String name) {
+        try {
+            MethodHandle handle = lookup.findVirtual(owner, name, MethodType.methodType(float.class));
+            return handle.asType(READER_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether Create's kinetic API was linked.
+     */
+    public boolean isAvailable() {
+        return reader != null;
+    }
+
+    /**
+     * Checks if the given block entity is a Create kinetic block entity.
+     */
+    public boolean isKinetic(@Nullable Object blockEntity) {
+        return kineticClass != null && kineticClass.isInstance(blockEntity);
+    }
+
+    /**
+     * Reads the rotation speed (RPM) of a kinetic block entity.
+     * When bound to getCapacity(), the RPM is estimated from capacity / 16.
+     *
+     * @param blockEntity A block entity for which {@link #isKinetic} returned true
+     * @return Absolute RPM, or 0 if the block is not turning (or the call failed)
+     */
+    public float readRPM(Object blockEntity) {
+        if (reader == null) {
+            return 0.0f;
+        }
+
+        float value;
+        try {
+            value = (float) reader.invokeExact(blockEntity);
+        } catch (Throwable t) {
+            // Create API changed underneath us - treat as unpowered
+            return 0.0f;
+        }
+
+        if (readsCapacity) {
+            return value > 0.1f ? value / SU_PER_RPM : 0.0f;
+        }
+
+        float rpm = Math.abs(value);
+        return rpm > 0.1f ? rpm : 0.0f;
+    }
+
+    /**
+     * Describes how the binding was resolved (for logging).
+     */
+    public String describe() {
+        return description;
+    }
+}
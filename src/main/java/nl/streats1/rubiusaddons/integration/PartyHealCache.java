@@ -0,0 +1,105 @@
+package nl.streats1.rubiusaddons.integration;
+
+import com.cobblemon.mod.common.api.Priority;
+import com.cobblemon.mod.common.api.reactive.ObservableSubscription;
+import com.cobblemon.mod.common.api.storage.party.PartyStore;
+import kotlin.Unit;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server-side cache of "does this player's party need healing?", keyed by player UUID.
+ *
+ * The first query for a player scans the party once and subscribes to the party's
+ * any-change observable (fired by Cobblemon on HP, status and slot changes). Until that
+ * fires again, queries are answered from the cached flag without touching party storage,
+ * so players spamming a healing machine cost a map lookup per click.
+ *
+ * Each entry remembers the PartyStore it subscribed to. If Cobblemon hands out a different
+ * instance for the player (storage reload, rejoin before the logout eviction ran), the old
+ * subscription is dropped and the new party is subscribed and scanned.
+ *
+ * Entries are dropped when the player logs out.
+ */
+public final class PartyHealCache {
+
+    // Flag states; COLD means the next query has to scan the party
+    private static final int COLD = 0;
+    private static final int HEALTHY = 1;
+    private static final int NEEDS_HEALING = 2;
+
+    private static final Map<UUID, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private PartyHealCache() {
+    }
+
+    private static final class Entry {
+        final PartyStore party;
+        final ObservableSubscription<Unit> subscription;
+        volatile int state = COLD;
+
+        Entry(PartyStore party) {
+            this.party = party;
+            this.subscription = party.getAnyChangeObservable().subscribe(Priority.NORMAL, change -> {
+                state = COLD;
+                return Unit.INSTANCE;
+            });
+        }
+    }
+
+    /**
+     * Checks if any Pokemon in the player's party is below max HP.
+     * Answered from the cache unless the party changed since the last scan.
+     * Looking up the party is a map lookup in Cobblemon's storage; it is needed to notice a replaced instance.
+     */
+    public static boolean needsHealing(ServerPlayer player) {
+        PartyStore party = CobblemonIntegration.party(player);
+        if (party == null) {
+            return false;
+        }
+
+        UUID playerId = player.getUUID();
+        Entry entry = ENTRIES.get(playerId);
+        if (entry == null || entry.party != party) {
+            // First query, or Cobblemon replaced the party: (re)subscribe to the current instance
+            Entry fresh = new Entry(party);
+            Entry previous = ENTRIES.put(playerId, fresh);
+            if (previous != null) {
+                previous.subscription.unsubscribe();
+            }
+            entry = fresh;
+        }
+
+        int state = entry.state;
+        if (state == COLD) {
+            // Cold entry: one full scan, then answer from the flag until the party changes
+            boolean needsHealing = CobblemonIntegration.needsHealing(party);
+            entry.state = needsHealing ? NEEDS_HEALING : HEALTHY;
+            return needsHealing;
+        }
+        return state == NEEDS_HEALING;
+    }
+
+    /**
+     * Forces the next query for this player to rescan the party.
+     */
+    public static void invalidate(UUID playerId) {
+        Entry entry = ENTRIES.get(playerId);
+        if (entry != null) {
+            entry.state = COLD;
+        }
+    }
+
+    /**
+     * Drops the cached flag and the party subscription (called when the player logs out).
+     */
+    public static void evict(UUID playerId) {
+        Entry entry = ENTRIES.remove(playerId);
+        if (entry != null) {
+            entry.subscription.unsubscribe();
+        }
+    }
+}
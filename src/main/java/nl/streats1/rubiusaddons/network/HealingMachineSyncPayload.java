@@ -0,0 +1,185 @@
+package nl.streats1.rubiusaddons.network;
+
+import io.netty.handler.codec.DecoderException;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import nl.streats1.rubiusaddons.RubiusCobblemonAdditions;
+import nl.streats1.rubiusaddons.block.entity.PokeballSlots;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Server to client update of a healing machine's client-visible state.
+ * Only the field groups named in {@code fields} are encoded; everything else keeps its client value.
+ *
+ * Wire format: block pos, varint field mask, then per present group:
+ * - KINETICS: RPM (float, SU is derived as RPM * 16)
+ * - HEALING: healing flag, varlong healing start time
+ * - RECHARGE: varlong recharge start time, varlong recharge deadline
+ * - POKEBALLS: varint slot mask, varint palette size, the distinct ball names (ResourceLocation),
+ *   then a varint palette index for each set slot
+ *
+ * Ball names are not item ids, so they can't be sent as registry ids; the palette sends each
+ * distinct name once (a party of six of the same ball costs one name plus six one-byte indices).
+ */
+public record HealingMachineSyncPayload(
+    BlockPos pos,
+    int fields,
+    float rpm,
+    boolean healing,
+    long healingStartTime,
+    long rechargeStartTime,
+    long rechargeReadyAtGameTime,
+    int slotMask,
+    ResourceLocation[] ballNames
+) implements CustomPacketPayload {
+
+    // Field groups (bits of the field mask)
+    public static final int KINETICS = 1;
+    public static final int HEALING = 1 << 1;
+    public static final int RECHARGE = 1 << 2;
+    public static final int POKEBALLS = 1 << 3;
+    public static final int ALL = KINETICS | HEALING | RECHARGE | POKEBALLS;
+
+    private static final ResourceLocation[] NO_BALLS = new ResourceLocation[0];
+
+    public static final Type<HealingMachineSyncPayload> TYPE = new Type<>(
+        ResourceLocation.fromNamespaceAndPath(RubiusCobblemonAdditions.MOD_ID, "healing_machine_sync")
+    );
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, HealingMachineSyncPayload> STREAM_CODEC =
+        StreamCodec.of((buf, payload) -> payload.write(buf), HealingMachineSyncPayload::read);
+
+    /**
+     * Builds a payload from the machine's current values; groups not in {@code fields} are not sent.
+     * Pokeball names are sent as-is: a ball's name need not be the id of an item.
+     */
+    public static HealingMachineSyncPayload of(BlockPos pos, int fields, float rpm, boolean healing, long healingStartTime,
+                                               long rechargeStartTime, long rechargeReadyAtGameTime,
+                                               PokeballSlots pokeballs) {
+        int slotMask = 0;
+        ResourceLocation[] ballNames = NO_BALLS;
+        if ((fields & POKEBALLS) != 0 && !pokeballs.isEmpty()) {
+            for (int slot = 0; slot < pokeballs.size() && slot < Integer.SIZE; slot++) {
+                if (pokeballs.get(slot) != null) {
+                    slotMask |= 1 << slot;
+                }
+            }
+            ballNames = new ResourceLocation[Integer.bitCount(slotMask)];
+            int index = 0;
+            for (int mask = slotMask; mask != 0; mask &= mask - 1) {
+                ballNames[index++] = pokeballs.get(Integer.numberOfTrailingZeros(mask));
+            }
+        }
+        return new HealingMachineSyncPayload(pos, fields, rpm, healing, healingStartTime,
+            rechargeStartTime, rechargeReadyAtGameTime, slotMask, ballNames);
+    }
+
+    public boolean has(int group) {
+        return (fields & group) != 0;
+    }
+
+    /**
+     * Decodes the pokeball slots back into the snapshot the block entity publishes to the renderer.
+     */
+    public PokeballSlots pokeballs() {
+        if (slotMask == 0) {
+            return PokeballSlots.EMPTY;
+        }
+        ResourceLocation[] balls = new ResourceLocation[Integer.SIZE - Integer.numberOfLeadingZeros(slotMask)];
+        int index = 0;
+        for (int mask = slotMask; mask != 0; mask &= mask - 1) {
+            balls[Integer.numberOfTrailingZeros(mask)] = ballNames[index++];
+        }
+        return PokeballSlots.of(balls);
+    }
+
+    private void write(RegistryFriendlyByteBuf buf) {
+        buf.writeBlockPos(pos);
+        buf.writeVarInt(fields);
+        if (has(KINETICS)) {
+            buf.writeFloat(rpm);
+        }
+        if (has(HEALING)) {
+            buf.writeBoolean(healing);
+            buf.writeVarLong(healingStartTime);
+        }
+        if (has(RECHARGE)) {
+            buf.writeVarLong(rechargeStartTime);
+            buf.writeVarLong(rechargeReadyAtGameTime);
+        }
+        if (has(POKEBALLS)) {
+            buf.writeVarInt(slotMask);
+            // Palette of distinct names; a party is at most a few slots, so a linear search is enough
+            ResourceLocation[] palette = new ResourceLocation[ballNames.length];
+            int[] indices = new int[ballNames.length];
+            int paletteSize = 0;
+            for (int slot = 0; slot < ballNames.length; slot++) {
+                int index = 0;
+                while (index < paletteSize && !palette[index].equals(ballNames[slot])) {
+                    index++;
+                }
+                if (index == paletteSize) {
+                    palette[paletteSize++] = ballNames[slot];
+                }
+                indices[slot] = index;
+            }
+            buf.writeVarInt(paletteSize);
+            for (int i = 0; i < paletteSize; i++) {
+                buf.writeResourceLocation(palette[i]);
+            }
+            for (int index : indices) {
+                buf.writeVarInt(index);
+            }
+        }
+    }
+
+    private static HealingMachineSyncPayload read(RegistryFriendlyByteBuf buf) {
+        BlockPos pos = buf.readBlockPos();
+        int fields = buf.readVarInt();
+        float rpm = 0.0f;
+        boolean healing = false;
+        long healingStartTime = 0;
+        long rechargeStartTime = 0;
+        long rechargeReadyAtGameTime = 0;
+        int slotMask = 0;
+        ResourceLocation[] ballNames = NO_BALLS;
+
+        if ((fields & KINETICS) != 0) {
+            rpm = buf.readFloat();
+        }
+        if ((fields & HEALING) != 0) {
+            healing = buf.readBoolean();
+            healingStartTime = buf.readVarLong();
+        }
+        if ((fields & RECHARGE) != 0) {
+            rechargeStartTime = buf.readVarLong();
+            rechargeReadyAtGameTime = buf.readVarLong();
+        }
+        if ((fields & POKEBALLS) != 0) {
+            slotMask = buf.readVarInt();
+            ballNames = new ResourceLocation[Integer.bitCount(slotMask)];
+            int paletteSize = buf.readVarInt();
+            if (paletteSize < 0 || paletteSize > ballNames.length) {
+                throw new DecoderException("Pokeball palette of " + paletteSize + " names for " + ballNames.length + " slots");
+            }
+            ResourceLocation[] palette = new ResourceLocation[paletteSize];
+            for (int i = 0; i < palette.length; i++) {
+                palette[i] = buf.readResourceLocation();
+            }
+            for (int i = 0; i < ballNames.length; i++) {
+                ballNames[i] = palette[buf.readVarInt()];
+            }
+        }
+
+        return new HealingMachineSyncPayload(pos, fields, rpm, healing, healingStartTime,
+            rechargeStartTime, rechargeReadyAtGameTime, slotMask, ballNames);
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,36 @@
+package nl.streats1.rubiusaddons.network;
+
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+import nl.streats1.rubiusaddons.block.entity.CreatePoweredHealingMachineBlockEntity;
+
+public class ModNetworking {
+    // Bump when a payload's wire format changes
+    private static final String PROTOCOL_VERSION = "3";
+
+    public static void register(IEventBus eventBus) {
+        eventBus.addListener(ModNetworking::onRegisterPayloads);
+    }
+
+    private static void onRegisterPayloads(RegisterPayloadHandlersEvent event) {
+        PayloadRegistrar registrar = event.registrar(PROTOCOL_VERSION);
+        registrar.playToClient(
+            HealingMachineSyncPayload.TYPE,
+            HealingMachineSyncPayload.STREAM_CODEC,
+            ModNetworking::handleHealingMachineSync
+        );
+    }
+
+    // Runs on the client main thread; uses the receiving player's level so no client-only classes are referenced
+    private static void handleHealingMachineSync(HealingMachineSyncPayload payload, IPayloadContext context) {
+        var level = context.player().level();
+        if (!level.isLoaded(payload.pos())) {
+            return;
+        }
+        if (level.getBlockEntity(payload.pos()) instanceof CreatePoweredHealingMachineBlockEntity healingMachine) {
+            healingMachine.applySync(payload);
+        }
+    }
+}